@@ -1,6 +1,7 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
     id("org.openrewrite.build.moderne-source-available-license") version "latest.release"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "org.openrewrite.recipe"
@@ -58,8 +59,51 @@ dependencies {
 
     testImplementation("org.assertj:assertj-core:latest.release")
     testRuntimeOnly(gradleApi())
+
+    jmhRuntimeOnly("org.openrewrite:rewrite-java-21")
 }
 
 tasks.withType<JavaCompile> {
     options.compilerArgs.add("-Arewrite.javaParserClasspathFrom=resources")
 }
+
+jmh {
+    profilers = listOf("gc")
+    resultFormat = "CSV"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.csv")
+    providers.gradleProperty("jmh.recipe").orNull?.let {
+        benchmarkParameters.put("recipe", objects.listProperty<String>().value(listOf(it)))
+    }
+}
+
+
+// Bytes allocated per operation do not depend on the machine the benchmarks run on, unlike their throughput, so they
+// are what the baseline keeps. Record it with `./gradlew jmh jmhBaseline` on JDK 17, without `-Pjmh.recipe`, using
+// the forks, warmup and measurement iterations the benchmarks declare, and commit the refreshed baseline alongside a
+// change, so that allocation regressions show up as diffs.
+tasks.register("jmhBaseline") {
+    group = "benchmark"
+    description = "Writes the bytes allocated per operation of the latest JMH results to the committed baseline in src/jmh/baseline.csv."
+    mustRunAfter("jmh")
+    val results = layout.buildDirectory.file("results/jmh/results.csv")
+    val baseline = layout.projectDirectory.file("src/jmh/baseline.csv")
+    inputs.file(results)
+    outputs.file(baseline)
+    doLast {
+        val rows = results.get().asFile.readLines().map { line -> line.split(",").map { it.trim('"') } }
+        val header = rows.first()
+        val benchmark = header.indexOf("Benchmark")
+        val mode = header.indexOf("Mode")
+        val score = header.indexOf("Score")
+        val params = header.indices.filter { header[it].startsWith("Param: ") }
+        val allocations = rows.drop(1)
+            .filter { it[benchmark].endsWith("gc.alloc.rate.norm") }
+            .map { row ->
+                (listOf(row[benchmark].substringBefore(':'), row[mode]) + params.map { row[it] } +
+                        Math.round(row[score].toDouble()).toString()).joinToString(",")
+            }
+            .sorted()
+        val columns = listOf("Benchmark", "Mode") + params.map { header[it].removePrefix("Param: ") } + "Bytes/op"
+        baseline.asFile.writeText((listOf(columns.joinToString(",")) + allocations).joinToString("\n", postfix = "\n"))
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.java.logging.internal.FormatTokens;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the per-literal cost of analyzing format strings with {@link FormatTokens} against the regular expressions
+ * the format converting recipes used before. Each benchmark analyzes {@value #LITERALS} literals per operation the way
+ * {@code Slf4jLogShouldBeConstant}, {@code StringFormatToParameterizedLogging} and
+ * {@code MessageFormatToParameterizedLogging} do, so the average time and {@code gc.alloc.rate.norm} are per literal.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FormatTokensBenchmark {
+    static final int LITERALS = 6;
+
+    private static final Pattern SLF4J_FORMAT_SPECIFIER_PATTERN = Pattern.compile("\\{}");
+    private static final Pattern FORMAT_SPECIFIER_PATTERN = Pattern.compile("%[-#+ 0,(\\d+]*[\\d.]*[dfscbBhHn%]");
+    private static final Pattern SIMPLE_FORMAT_SPECIFIER_PATTERN = Pattern.compile("%[dfscbBhHn%]");
+    private static final Pattern INDEXED_FORMAT_SPECIFIER_PATTERN = Pattern.compile("%(\\d+\\$)[a-zA-Z]");
+    private static final Pattern SIMPLE_PLACEHOLDER = Pattern.compile("\\{(\\d+)}");
+    private static final Pattern COMPLEX_PLACEHOLDER = Pattern.compile("\\{\\d+,[^}]+}");
+
+    private final String[] printf = {
+            "Processing item %s for %s",
+            "Item %s has %d entries and %d errors after %s",
+            "Done"
+    };
+
+    private final String[] messageFormat = {
+            "Processing item {0} for {1}",
+            "Item {0} has {1} entries and {2} errors after {3}",
+            "Done"
+    };
+
+    @Benchmark
+    @OperationsPerInvocation(LITERALS)
+    public void regex(Blackhole blackhole) {
+        for (String format : printf) {
+            boolean skip = INDEXED_FORMAT_SPECIFIER_PATTERN.matcher(format).find() ||
+                           FORMAT_SPECIFIER_PATTERN.matcher(format).find() && SLF4J_FORMAT_SPECIFIER_PATTERN.matcher(format).find();
+            Matcher matcher = FORMAT_SPECIFIER_PATTERN.matcher(format);
+            while (!skip && matcher.find()) {
+                skip = !SIMPLE_FORMAT_SPECIFIER_PATTERN.matcher(matcher.group()).matches();
+            }
+            blackhole.consume(skip ? format : FORMAT_SPECIFIER_PATTERN.matcher(format).replaceAll("{}"));
+        }
+        for (String pattern : messageFormat) {
+            if (COMPLEX_PLACEHOLDER.matcher(pattern).find() || !SIMPLE_PLACEHOLDER.matcher(pattern).find()) {
+                blackhole.consume(pattern);
+                continue;
+            }
+            SortedSet<Integer> indices = new TreeSet<>();
+            Matcher matcher = SIMPLE_PLACEHOLDER.matcher(pattern);
+            while (matcher.find()) {
+                indices.add(Integer.parseInt(matcher.group(1)));
+            }
+            List<Integer> indicesInOrder = new ArrayList<>();
+            Matcher orderMatcher = SIMPLE_PLACEHOLDER.matcher(pattern);
+            while (orderMatcher.find()) {
+                indicesInOrder.add(Integer.parseInt(orderMatcher.group(1)));
+            }
+            blackhole.consume(indices.last() + indicesInOrder.size());
+            blackhole.consume(pattern.replaceAll("\\{\\d+}", "{}"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LITERALS)
+    public void tokens(Blackhole blackhole) {
+        for (String format : printf) {
+            FormatTokens tokens = FormatTokens.printf(format);
+            boolean skip = tokens.contains(FormatTokens.UNSUPPORTED) ||
+                           tokens.contains(FormatTokens.SPECIFIER) && tokens.contains(FormatTokens.PLACEHOLDER) ||
+                           !tokens.hasOnlySimpleSpecifiers("dfscbBhH");
+            blackhole.consume(skip ? format : tokens.toSlf4jTemplate());
+        }
+        for (String pattern : messageFormat) {
+            FormatTokens tokens = FormatTokens.messageFormat(pattern);
+            if (tokens.contains(FormatTokens.UNSUPPORTED) || !tokens.contains(FormatTokens.ARGUMENT)) {
+                blackhole.consume(pattern);
+                continue;
+            }
+            int expected = 0;
+            for (int i = 0; i < tokens.size(); i++) {
+                if (tokens.kind(i) == FormatTokens.ARGUMENT && tokens.argumentIndex(i) == expected) {
+                    expected++;
+                }
+            }
+            blackhole.consume(expected);
+            blackhole.consume(tokens.toSlf4jTemplate());
+        }
+    }
+}
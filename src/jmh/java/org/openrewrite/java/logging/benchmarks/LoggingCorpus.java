@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.benchmarks;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Generates a synthetic, logging-heavy Java corpus of {@code classes} compilation units with
+ * {@code statements} log statements each. Classes cycle through SLF4J, Log4j 1.x and JUL so that every
+ * migration and best practice recipe in this module finds work, and statements cycle through
+ * concatenation, {@code String.format}, level guards, MDC, exception and expensive argument shapes.
+ */
+public final class LoggingCorpus {
+    private static final int STATEMENTS_PER_METHOD = 10;
+
+    private LoggingCorpus() {
+    }
+
+    /**
+     * An execution context that rethrows parser and recipe errors, so a broken recipe fails the benchmark
+     * instead of being measured as a fast no-op.
+     */
+    public static InMemoryExecutionContext failOnError() {
+        return new InMemoryExecutionContext(t -> {
+            throw new IllegalStateException(t);
+        });
+    }
+
+    public static List<SourceFile> parse(int classes, int statements, ExecutionContext ctx) {
+        return JavaParser.fromJavaVersion()
+                .classpathFromResources(ctx, "slf4j-api-2", "log4j-1.2.+")
+                .build()
+                .parse(ctx, generate(classes, statements).toArray(new String[0]))
+                .collect(toList());
+    }
+
+    /**
+     * Parses {@code classes} logging classes followed by {@code plainClasses} classes of the same size that do not
+     * log, the way most files in a large repository do not touch the logging framework being migrated.
+     */
+    public static List<SourceFile> parseMixed(int classes, int plainClasses, int statements, ExecutionContext ctx) {
+        List<String> sources = generate(classes, statements);
+        for (int i = 0; i < plainClasses; i++) {
+            sources.add(plainClass(i, statements));
+        }
+        return JavaParser.fromJavaVersion()
+                .classpathFromResources(ctx, "slf4j-api-2", "log4j-1.2.+")
+                .build()
+                .parse(ctx, sources.toArray(new String[0]))
+                .collect(toList());
+    }
+
+    public static List<String> generate(int classes, int statements) {
+        List<String> sources = new ArrayList<>(classes);
+        for (int i = 0; i < classes; i++) {
+            switch (i % 3) {
+                case 0:
+                    sources.add(slf4jClass(i, statements));
+                    break;
+                case 1:
+                    sources.add(log4jClass(i, statements));
+                    break;
+                default:
+                    sources.add(julClass(i, statements));
+            }
+        }
+        return sources;
+    }
+
+    private static String slf4jClass(int index, int statements) {
+        StringBuilder body = new StringBuilder();
+        for (int j = 0; j < statements; j++) {
+            openMethod(body, j);
+            switch (j % 6) {
+                case 0:
+                    body.append("        log.info(\"Processing item \" + id + \" for \" + name);\n");
+                    break;
+                case 1:
+                    body.append("        log.debug(String.format(\"Item %s has %d entries\", name, id));\n");
+                    break;
+                case 2:
+                    body.append("        if (log.isDebugEnabled()) {\n")
+                            .append("            log.debug(\"State {}\", name);\n")
+                            .append("        }\n");
+                    break;
+                case 3:
+                    body.append("        MDC.put(\"request\", String.valueOf(id));\n")
+                            .append("        log.info(\"Handled {}\", id);\n")
+                            .append("        MDC.remove(\"request\");\n");
+                    break;
+                case 4:
+                    body.append("        log.error(\"Failed: \" + e.getMessage());\n");
+                    break;
+                default:
+                    body.append("        log.trace(\"Items {}\", describe());\n");
+            }
+            closeMethod(body, j, statements);
+        }
+        return "package bench.slf4j;\n\n" +
+               "import org.slf4j.Logger;\n" +
+               "import org.slf4j.LoggerFactory;\n" +
+               "import org.slf4j.MDC;\n\n" +
+               "public class Service" + index + " {\n" +
+               "    private static final Logger log = LoggerFactory.getLogger(Service" + index + ".class);\n" +
+               members() +
+               body +
+               "}\n";
+    }
+
+    private static String log4jClass(int index, int statements) {
+        StringBuilder body = new StringBuilder();
+        for (int j = 0; j < statements; j++) {
+            openMethod(body, j);
+            switch (j % 6) {
+                case 0:
+                    body.append("        log.info(\"Processing item \" + id + \" for \" + name);\n");
+                    break;
+                case 1:
+                    body.append("        log.debug(String.format(\"Item %s has %d entries\", name, id));\n");
+                    break;
+                case 2:
+                    body.append("        if (log.isDebugEnabled()) {\n")
+                            .append("            log.debug(\"State \" + describe());\n")
+                            .append("        }\n");
+                    break;
+                case 3:
+                    body.append("        MDC.put(\"request\", id);\n")
+                            .append("        log.info(\"Handled \" + id);\n")
+                            .append("        MDC.remove(\"request\");\n");
+                    break;
+                case 4:
+                    body.append("        log.error(\"Failed\", e);\n");
+                    break;
+                default:
+                    body.append("        log.fatal(\"Items \" + describe());\n");
+            }
+            closeMethod(body, j, statements);
+        }
+        return "package bench.log4j;\n\n" +
+               "import org.apache.log4j.Logger;\n" +
+               "import org.apache.log4j.MDC;\n\n" +
+               "public class Job" + index + " {\n" +
+               "    private static final Logger log = Logger.getLogger(Job" + index + ".class);\n" +
+               members() +
+               body +
+               "}\n";
+    }
+
+    private static String julClass(int index, int statements) {
+        StringBuilder body = new StringBuilder();
+        for (int j = 0; j < statements; j++) {
+            openMethod(body, j);
+            switch (j % 6) {
+                case 0:
+                    body.append("        log.info(\"Processing item \" + id + \" for \" + name);\n");
+                    break;
+                case 1:
+                    body.append("        log.fine(String.format(\"Item %s has %d entries\", name, id));\n");
+                    break;
+                case 2:
+                    body.append("        if (log.isLoggable(Level.FINE)) {\n")
+                            .append("            log.fine(\"State \" + describe());\n")
+                            .append("        }\n");
+                    break;
+                case 3:
+                    body.append("        log.log(Level.INFO, \"Handled {0}\", id);\n");
+                    break;
+                case 4:
+                    body.append("        log.log(Level.SEVERE, \"Failed\", e);\n");
+                    break;
+                default:
+                    body.append("        log.finer(() -> \"Items \" + describe());\n");
+            }
+            closeMethod(body, j, statements);
+        }
+        return "package bench.jul;\n\n" +
+               "import java.util.logging.Level;\n" +
+               "import java.util.logging.Logger;\n\n" +
+               "public class Task" + index + " {\n" +
+               "    private static final Logger log = Logger.getLogger(Task" + index + ".class.getName());\n" +
+               members() +
+               body +
+               "}\n";
+    }
+
+    private static String plainClass(int index, int statements) {
+        StringBuilder body = new StringBuilder();
+        for (int j = 0; j < statements; j++) {
+            openMethod(body, j);
+            body.append("        items.add(name + id + \"-").append(j).append("\");\n");
+            closeMethod(body, j, statements);
+        }
+        return "package com.example.model;\n\n" +
+               "public class Record" + index + " {\n" +
+               members() +
+               body +
+               "}\n";
+    }
+
+    private static String members() {
+        return "    private final java.util.List<String> items = new java.util.ArrayList<>();\n" +
+               "    private String name = \"name\";\n\n" +
+               "    String describe() {\n" +
+               "        return String.join(\",\", items);\n" +
+               "    }\n";
+    }
+
+    private static void openMethod(StringBuilder body, int statement) {
+        if (statement % STATEMENTS_PER_METHOD == 0) {
+            body.append("\n    void work").append(statement / STATEMENTS_PER_METHOD).append("(int id, Exception e) {\n");
+        }
+    }
+
+    private static void closeMethod(StringBuilder body, int statement, int statements) {
+        if (statement % STATEMENTS_PER_METHOD == STATEMENTS_PER_METHOD - 1 || statement == statements - 1) {
+            body.append("    }\n");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the framework migrations over a corpus where {@value #LOGGING_CLASSES} of {@value #COMPILATION_UNITS}
+ * compilation units log and the rest do not, so the score shows how cheaply a migration passes over files that do
+ * not use the framework it migrates. Scores are per compilation unit, as in {@link RecipeThroughputBenchmark}.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MigrationPreconditionBenchmark {
+    static final int LOGGING_CLASSES = 6;
+    static final int COMPILATION_UNITS = 48;
+
+    @Param({
+            "org.openrewrite.java.logging.log4j.Log4j1ToLog4j2",
+            "org.openrewrite.java.logging.log4j.JulToLog4j",
+            "org.openrewrite.java.logging.slf4j.Log4j2ToSlf4j1",
+            "org.openrewrite.java.logging.slf4j.JulToSlf4j",
+            "org.openrewrite.java.logging.slf4j.JBossLoggingToSlf4j"
+    })
+    String recipe;
+
+    Recipe activeRecipe;
+    List<SourceFile> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        activeRecipe = Environment.builder()
+                .scanRuntimeClasspath("org.openrewrite.java.logging")
+                .build()
+                .activateRecipes(recipe);
+        sourceFiles = LoggingCorpus.parseMixed(LOGGING_CLASSES, COMPILATION_UNITS - LOGGING_CLASSES, 10,
+                LoggingCorpus.failOnError());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMPILATION_UNITS)
+    public void run(Blackhole blackhole) {
+        ExecutionContext ctx = LoggingCorpus.failOnError();
+        blackhole.consume(activeRecipe.run(new InMemoryLargeSourceSet(sourceFiles), ctx).getChangeset().getAllResults());
+    }
+}
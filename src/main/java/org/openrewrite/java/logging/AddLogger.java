@@ -18,21 +18,23 @@ package org.openrewrite.java.logging;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
+import org.openrewrite.internal.StringUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
-import org.openrewrite.java.format.AutoFormatVisitor;
+import org.openrewrite.java.logging.internal.JavaTemplateCache;
 import org.openrewrite.java.search.FindFieldsOfType;
 import org.openrewrite.java.search.FindInheritedFields;
+import org.openrewrite.java.style.BlankLinesStyle;
+import org.openrewrite.java.style.IntelliJ;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.java.tree.Statement;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Function;
 
-import static java.util.Objects.requireNonNull;
-
 /**
  * @author Edward Harman
  */
@@ -68,59 +70,75 @@ public class AddLogger extends JavaIsoVisitor<ExecutionContext> {
     }
 
     public static AddLogger addSlf4jLogger(J.ClassDeclaration scope, String loggerName, ExecutionContext ctx) {
+        String code = getModifiers(scope) + " Logger #{} = LoggerFactory.getLogger(#{}.class);";
         return new AddLogger(scope, "org.slf4j.Logger", "org.slf4j.LoggerFactory", loggerName, visitor ->
-                JavaTemplate
-                        .builder(getModifiers(scope) + " Logger #{} = LoggerFactory.getLogger(#{}.class);")
-                        .contextSensitive()
-                        .imports("org.slf4j.Logger", "org.slf4j.LoggerFactory")
-                        .javaParser(JavaParser.fromJavaVersion()
-                                .classpathFromResources(ctx, "slf4j-api-2"))
-                        .build()
+                JavaTemplateCache.get(ctx).contextSensitiveTemplate(code, "slf4j-api-2", "org.slf4j.Logger", "org.slf4j.LoggerFactory")
         );
     }
 
-    public static AddLogger addJulLogger(J.ClassDeclaration scope, String loggerName, @SuppressWarnings("unused") ExecutionContext ctx) {
+    public static AddLogger addJulLogger(J.ClassDeclaration scope, String loggerName, ExecutionContext ctx) {
+        String code = getModifiers(scope) + " Logger #{} = LogManager.getLogManager().getLogger(\"#{}\");";
         return new AddLogger(scope, "java.util.logging.Logger", "java.util.logging.LogManager", loggerName, visitor ->
-                JavaTemplate
-                        .builder(getModifiers(scope) + " Logger #{} = LogManager.getLogManager().getLogger(\"#{}\");")
-                        .contextSensitive()
-                        .imports("java.util.logging.Logger", "java.util.logging.LogManager")
-                        .build()
+                JavaTemplateCache.get(ctx).contextSensitiveTemplate(code, null, "java.util.logging.Logger", "java.util.logging.LogManager")
         );
     }
 
-    public static AddLogger addSystemLogger(J.ClassDeclaration scope, String loggerName, @SuppressWarnings("unused") ExecutionContext ctx) {
+    public static AddLogger addSystemLogger(J.ClassDeclaration scope, String loggerName, ExecutionContext ctx) {
+        String code = getModifiers(scope) + " Logger #{} = System.getLogger(\"#{}\");";
         return new AddLogger(scope, "java.lang.System.Logger", "java.lang.System", loggerName, visitor ->
-                JavaTemplate
-                        .builder(getModifiers(scope) + " Logger #{} = System.getLogger(\"#{}\");")
-                        .contextSensitive()
-                        .imports("java.lang.System.Logger")
-                        .build()
+                JavaTemplateCache.get(ctx).contextSensitiveTemplate(code, null, "java.lang.System.Logger")
         );
     }
 
     public static AddLogger addLog4j1Logger(J.ClassDeclaration scope, String loggerName, ExecutionContext ctx) {
+        String code = getModifiers(scope) + " Logger #{} = LogManager.getLogger(#{}.class);";
         return new AddLogger(scope, "org.apache.log4j.Logger", "org.apache.log4j.LogManager", loggerName, visitor ->
-                JavaTemplate
-                        .builder(getModifiers(scope) + " Logger #{} = LogManager.getLogger(#{}.class);")
-                        .contextSensitive()
-                        .imports("org.apache.log4j.Logger", "org.apache.log4j.LogManager")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "log4j-1.2.+"))
-                        .build()
+                JavaTemplateCache.get(ctx).contextSensitiveTemplate(code, "log4j-1.2.+", "org.apache.log4j.Logger", "org.apache.log4j.LogManager")
         );
     }
 
     public static AddLogger addLog4j2Logger(J.ClassDeclaration scope, String loggerName, ExecutionContext ctx) {
+        String code = getModifiers(scope) + " Logger #{} = LogManager.getLogger(#{}.class);";
         return new AddLogger(scope, "org.apache.logging.log4j.Logger", "org.apache.logging.log4j.LogManager", loggerName, visitor ->
-                JavaTemplate
-                        .builder(getModifiers(scope) + " Logger #{} = LogManager.getLogger(#{}.class);")
-                        .contextSensitive()
-                        .imports("org.apache.logging.log4j.Logger", "org.apache.logging.log4j.LogManager")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "log4j-api-2.+"))
-                        .build()
+                JavaTemplateCache.get(ctx).contextSensitiveTemplate(code, "log4j-api-2.+", "org.apache.logging.log4j.Logger", "org.apache.logging.log4j.LogManager")
         );
     }
 
+    private BlankLinesStyle blankLinesStyle() {
+        JavaSourceFile sourceFile = getCursor().firstEnclosing(JavaSourceFile.class);
+        BlankLinesStyle style = sourceFile == null ? null : sourceFile.getStyle(BlankLinesStyle.class);
+        return style == null ? IntelliJ.blankLines() : style;
+    }
+
+    private static int minimumBlankLinesAfterField(Statement next, boolean inInterface, BlankLinesStyle style) {
+        BlankLinesStyle.Minimum minimum = style.getMinimum();
+        int lines = inInterface ? minimum.getAroundFieldInInterface() : minimum.getAroundField();
+        if (next instanceof J.MethodDeclaration) {
+            lines = Math.max(lines, inInterface ? minimum.getAroundMethodInInterface() : minimum.getAroundMethod());
+        } else if (next instanceof J.ClassDeclaration) {
+            lines = Math.max(lines, minimum.getAroundClass());
+        } else if (next instanceof J.Block) {
+            lines = Math.max(lines, minimum.getAroundInitializer());
+        }
+        return lines;
+    }
+
+    /**
+     * Adjusts only the blank lines in front of {@code statement}, keeping its indentation and comments, the way
+     * formatting the whole class would.
+     */
+    private static Statement withBlankLines(Statement statement, Statement previous, int minimum, int maximum) {
+        String whitespace = statement.getPrefix().getWhitespace();
+        int newlines = StringUtils.countOccurrences(whitespace, "\n");
+        int blankLines = Math.max(minimum, Math.min(newlines - 1, maximum));
+        if (newlines > 0 && blankLines == newlines - 1) {
+            return statement;
+        }
+        String indentSource = newlines > 0 ? whitespace : previous.getPrefix().getWhitespace();
+        String indent = indentSource.substring(indentSource.lastIndexOf('\n') + 1);
+        return statement.withPrefix(statement.getPrefix().withWhitespace(StringUtils.repeat("\n", blankLines + 1) + indent));
+    }
+
     private static String getModifiers(J.ClassDeclaration scope) {
         boolean innerClass = scope.getType() != null && scope.getType().getOwningClass() != null;
         return innerClass && !scope.hasModifier(J.Modifier.Type.Static) ? "private final" : "private static final";
@@ -140,10 +158,18 @@ public class AddLogger extends JavaIsoVisitor<ExecutionContext> {
             cd = template.apply(updateCursor(cd), cd.getBody().getCoordinates().addStatement(firstAfterEnumValueSet), loggerName, cd.getSimpleName());
 
             // ensure the appropriate number of blank lines on next statement after new field
-            J.ClassDeclaration formatted = (J.ClassDeclaration) new AutoFormatVisitor<ExecutionContext>().visitNonNull(cd, ctx, requireNonNull(getCursor().getParent()));
-            cd = cd.withBody(cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), (i, stat) -> {
-                if (i == 1) {
-                    return stat.withPrefix(formatted.getBody().getStatements().get(i).getPrefix());
+            BlankLinesStyle style = blankLinesStyle();
+            boolean inInterface = cd.getKind() == J.ClassDeclaration.Kind.Type.Interface;
+            List<Statement> statements = cd.getBody().getStatements();
+            int fieldIndex = statements.get(0) instanceof J.EnumValueSet ? 1 : 0;
+            Statement field = statements.get(fieldIndex);
+            cd = cd.withBody(cd.getBody().withStatements(ListUtils.map(statements, (i, stat) -> {
+                if (i == fieldIndex && i > 0) {
+                    return withBlankLines(stat, statements.get(i - 1), minimumBlankLinesAfterField(stat, inInterface, style),
+                            style.getKeepMaximum().getInDeclarations());
+                } else if (i == fieldIndex + 1) {
+                    return withBlankLines(stat, field, minimumBlankLinesAfterField(stat, inInterface, style),
+                            style.getKeepMaximum().getInDeclarations());
                 }
                 return stat;
             })));
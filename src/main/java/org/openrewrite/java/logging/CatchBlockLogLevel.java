@@ -20,7 +20,7 @@ import lombok.Value;
 import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
@@ -46,10 +46,10 @@ public class CatchBlockLogLevel extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         TreeVisitor<?, ExecutionContext> check = Preconditions.or(
-                new UsesMethod<>(SLF4J_MATCHER),
-                new UsesMethod<>(LOG4J1_MATCHER),
-                new UsesMethod<>(LOG4J2_MATCHER),
-                new UsesMethod<>(LOGBACK_MATCHER));
+                LoggingUsageIndex.usesMethod("org.slf4j.Logger", "*"),
+                LoggingUsageIndex.usesMethod("org.apache.log4j.Category", "*"),
+                LoggingUsageIndex.usesMethod("org.apache.logging.log4j.Logger", "*"),
+                LoggingUsageIndex.usesMethod("ch.qos.logback.classic.Logger", "*"));
 
         return Preconditions.check(check, new JavaIsoVisitor<ExecutionContext>() {
             @Override
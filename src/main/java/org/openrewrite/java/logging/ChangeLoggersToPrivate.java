@@ -21,7 +21,7 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.Space;
@@ -108,11 +108,6 @@ public class ChangeLoggersToPrivate extends Recipe {
     }
 
     private static TreeVisitor<?, ExecutionContext> usesAnyLogger() {
-        UsesType[] usesTypes = new UsesType[LOGGER_TYPES.size()];
-        int i = 0;
-        for (String fqn : LOGGER_TYPES) {
-            usesTypes[i++] = new UsesType<>(fqn, true);
-        }
-        return Preconditions.or(usesTypes);
+        return LoggingUsageIndex.usesType(LOGGER_TYPES.toArray(new String[0]));
     }
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.logging.internal.ArgumentCostModel;
+import org.openrewrite.java.logging.internal.LambdaCaptures;
+import org.openrewrite.java.logging.internal.LogStatements;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
+import org.openrewrite.java.logging.internal.TrivialGetters;
+import org.openrewrite.java.logging.jul.DeferExpensiveLogMessages;
+import org.openrewrite.java.logging.log4j.DeferExpensiveLogArguments;
+import org.openrewrite.java.logging.slf4j.WrapExpensiveLogStatementsInConditionals;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.Tree.randomId;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class DeferExpensiveLogStatements extends ScanningRecipe<TrivialGetters> {
+    private static final String JBOSS_LOGGER = "org.jboss.logging.BasicLogger";
+    private static final String SUPPLIER = "java.util.function.Supplier";
+
+    // Only matching up to INFO, as WARN and ERROR are rarely disabled
+    private static final Set<String> COMMONS_METHODS = new HashSet<>(Arrays.asList("trace", "debug", "info"));
+    private static final Set<String> JBOSS_METHODS = new HashSet<>(Arrays.asList(
+            "trace", "debug", "info", "tracef", "debugf", "infof", "tracev", "debugv", "infov"));
+    private static final Set<String> SYSTEM_LEVELS = new HashSet<>(Arrays.asList("TRACE", "DEBUG", "INFO"));
+
+    @Option(displayName = "Method costs",
+            description = ArgumentCostModel.METHOD_COSTS_DESCRIPTION,
+            required = false,
+            example = "java.util.Arrays toString(..)=10")
+    @Nullable
+    List<String> methodCosts;
+
+    @Option(displayName = "Cost threshold",
+            description = ArgumentCostModel.COST_THRESHOLD_DESCRIPTION,
+            required = false,
+            example = "10")
+    @Nullable
+    Integer costThreshold;
+
+    String displayName = "Defer expensive log statements of any logging framework";
+
+    String description = "Makes log statements that build their message or arguments with method calls cost nothing " +
+            "when their log level is disabled, using the best form each logging API offers. Apache Commons Logging " +
+            "and JBoss Logging statements are wrapped in `is*Enabled()` checks, `System.Logger` messages are passed to " +
+            "its `Supplier<String>` overloads, and SLF4J, Log4j 2.x and `java.util.logging` statements are optimized " +
+            "by their framework's own recipe, so a code base mixing frameworks is optimized in one run. Only " +
+            "statements logging at trace, debug or info level are changed, as warnings and errors are rarely disabled.";
+
+    public DeferExpensiveLogStatements() {
+        this(null, null);
+    }
+
+    @JsonCreator
+    public DeferExpensiveLogStatements(@Nullable List<String> methodCosts, @Nullable Integer costThreshold) {
+        this.methodCosts = methodCosts;
+        this.costThreshold = costThreshold;
+    }
+
+    @Override
+    public List<Recipe> getRecipeList() {
+        return Arrays.asList(
+                new WrapExpensiveLogStatementsInConditionals(null, methodCosts, costThreshold, null),
+                new DeferExpensiveLogArguments(methodCosts, costThreshold),
+                new DeferExpensiveLogMessages(methodCosts, costThreshold));
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(ArgumentCostModel.validate(methodCosts, costThreshold));
+    }
+
+    @Override
+    public TrivialGetters getInitialValue(ExecutionContext ctx) {
+        return new TrivialGetters();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(TrivialGetters trivialGetters) {
+        return trivialGetters.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(TrivialGetters trivialGetters) {
+        ArgumentCostModel costModel = ArgumentCostModel.of(methodCosts, costThreshold).withTrivialGetters(trivialGetters);
+        return Preconditions.check(
+                LoggingUsageIndex.usesType(LoggingFramework.COMMONS.getLoggerType(), LoggingFramework.SYSTEM.getLoggerType(), JBOSS_LOGGER),
+                new JavaVisitor<ExecutionContext>() {
+                    @Override
+                    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                        J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                        JavaType.Method methodType = m.getMethodType();
+                        if (methodType == null || m.getSelect() == null) {
+                            return m;
+                        }
+                        JavaType.FullyQualified declaringType = methodType.getDeclaringType();
+                        if (TypeUtils.isAssignableTo(LoggingFramework.SYSTEM.getLoggerType(), declaringType)) {
+                            return "log".equals(m.getSimpleName()) && isSystemLevelUpToInfo(m.getArguments().get(0)) ?
+                                    deferSystemLoggerMessage(m, methodType, ctx) : m;
+                        }
+                        if (TypeUtils.isAssignableTo(LoggingFramework.COMMONS.getLoggerType(), declaringType) &&
+                                COMMONS_METHODS.contains(m.getSimpleName()) ||
+                                TypeUtils.isAssignableTo(JBOSS_LOGGER, declaringType) && JBOSS_METHODS.contains(m.getSimpleName())) {
+                            return anyExpensive(m.getArguments(), 0) ? guard(m, levelCheck(m), ctx) : m;
+                        }
+                        return m;
+                    }
+
+                    /**
+                     * {@code log(Level, String)} and {@code log(Level, String, Throwable)} take a {@code Supplier<String>}
+                     * in place of the message, while {@code log(Level, String, Object...)} can only be guarded.
+                     */
+                    private J deferSystemLoggerMessage(J.MethodInvocation m, JavaType.Method methodType, ExecutionContext ctx) {
+                        List<Expression> args = m.getArguments();
+                        List<JavaType> parameterTypes = methodType.getParameterTypes();
+                        if (parameterTypes.size() < 2 || !TypeUtils.isString(parameterTypes.get(1))) {
+                            return m;
+                        }
+                        boolean messageOnly = parameterTypes.size() == 2 ||
+                                parameterTypes.size() == 3 && TypeUtils.isAssignableTo("java.lang.Throwable", parameterTypes.get(2));
+                        if (!messageOnly) {
+                            JavaType.Method isLoggable = findMethod(methodType.getDeclaringType(), "isLoggable", 1);
+                            if (isLoggable == null || !anyExpensive(args, 2) || costModel.cost(args.get(0)) > 0) {
+                                return m;
+                            }
+                            return guard(m, LogStatements.invoke(m.getSelect(), isLoggable, singletonList(args.get(0).withPrefix(Space.EMPTY))), ctx);
+                        }
+                        if (!costModel.isExpensive(args.get(1)) || !LambdaCaptures.canCapture(args.get(1), getCursor()) ||
+                                LogStatements.isGuarded(getCursor(), m)) {
+                            return m;
+                        }
+                        JavaType.Method overload = null;
+                        for (JavaType.Method candidate : methodType.getDeclaringType().getMethods()) {
+                            List<JavaType> candidateTypes = candidate.getParameterTypes();
+                            if ("log".equals(candidate.getName()) && candidateTypes.size() == parameterTypes.size() &&
+                                    TypeUtils.isOfClassType(candidateTypes.get(1), SUPPLIER) &&
+                                    (candidateTypes.size() == 2 || TypeUtils.isOfType(candidateTypes.get(2), parameterTypes.get(2)))) {
+                                overload = candidate;
+                            }
+                        }
+                        if (overload == null) {
+                            return m;
+                        }
+                        List<Expression> deferred = new ArrayList<>(args);
+                        deferred.set(1, LogStatements.supplier(args.get(1), overload.getParameterTypes().get(1)));
+                        return m.withArguments(deferred)
+                                .withMethodType(overload)
+                                .withName(m.getName().withType(overload));
+                    }
+
+                    /**
+                     * @return {@code logger.isDebugEnabled()} for {@code logger.debug(..)}, {@code logger.debugf(..)}
+                     * and {@code logger.debugv(..)}, and likewise for the other levels
+                     */
+                    private J.@Nullable MethodInvocation levelCheck(J.MethodInvocation m) {
+                        String name = m.getSimpleName();
+                        String level = name.endsWith("f") || name.endsWith("v") ? name.substring(0, name.length() - 1) : name;
+                        JavaType.Method isEnabled = findMethod(m.getMethodType().getDeclaringType(),
+                                "is" + StringUtils.capitalize(level) + "Enabled", 0);
+                        return isEnabled == null ? null : LogStatements.invoke(m.getSelect(), isEnabled, emptyList());
+                    }
+
+                    /**
+                     * @return the log statement wrapped in an {@code if} on the level check, when it is a statement of
+                     * its own that is not already guarded
+                     */
+                    private J guard(J.MethodInvocation m, J.@Nullable MethodInvocation levelCheck, ExecutionContext ctx) {
+                        if (levelCheck == null || costModel.cost(m.getSelect()) > 0 ||
+                                !(getCursor().getParentTreeCursor().getValue() instanceof J.Block) ||
+                                LogStatements.isGuarded(getCursor(), m)) {
+                            return m;
+                        }
+                        J.Block then = new J.Block(randomId(), Space.SINGLE_SPACE, Markers.EMPTY, JRightPadded.build(false),
+                                singletonList(JRightPadded.build(m.withPrefix(Space.format("\n")))), Space.format("\n"));
+                        J.If if_ = new J.If(randomId(), m.getPrefix(), Markers.EMPTY,
+                                new J.ControlParentheses<>(randomId(), Space.SINGLE_SPACE, Markers.EMPTY, JRightPadded.build(levelCheck)),
+                                JRightPadded.build(then), null);
+                        return autoFormat(if_, ctx, getCursor().getParentTreeCursor());
+                    }
+
+                    private boolean anyExpensive(List<Expression> args, int from) {
+                        for (int i = from; i < args.size(); i++) {
+                            if (costModel.isExpensive(args.get(i))) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+                });
+    }
+
+    /**
+     * @return whether the level passed to {@code System.Logger.log(..)} is one of the constants up to {@code INFO},
+     * as for the other frameworks, rather than a more severe level or one only known at runtime
+     */
+    private static boolean isSystemLevelUpToInfo(Expression level) {
+        String name = level instanceof J.FieldAccess ? ((J.FieldAccess) level).getSimpleName() :
+                level instanceof J.Identifier ? ((J.Identifier) level).getSimpleName() : null;
+        return name != null && SYSTEM_LEVELS.contains(name);
+    }
+
+    private static JavaType.@Nullable Method findMethod(JavaType.@Nullable FullyQualified type, String name, int parameterCount) {
+        if (type == null) {
+            return null;
+        }
+        for (JavaType.Method method : type.getMethods()) {
+            if (name.equals(method.getName()) && method.getParameterTypes().size() == parameterCount) {
+                return method;
+            }
+        }
+        JavaType.Method method = findMethod(type.getSupertype(), name, parameterCount);
+        for (Iterator<JavaType.FullyQualified> interfaces = type.getInterfaces().iterator(); method == null && interfaces.hasNext(); ) {
+            method = findMethod(interfaces.next(), name, parameterCount);
+        }
+        return method;
+    }
+}
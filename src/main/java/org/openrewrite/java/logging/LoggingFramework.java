@@ -17,8 +17,8 @@ package org.openrewrite.java.logging;
 
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.logging.internal.JavaTemplateCache;
 
 public enum LoggingFramework {
     SLF4J("org.slf4j.Logger"),
@@ -50,39 +50,23 @@ public enum LoggingFramework {
     }
 
     public JavaTemplate getErrorTemplate(String message, ExecutionContext ctx) {
+        JavaTemplateCache templates = JavaTemplateCache.get(ctx);
         switch (this) {
             case SLF4J:
-                return JavaTemplate
-                        .builder("#{any(org.slf4j.Logger)}.error(" + message + ", #{any(java.lang.Throwable)})")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "slf4j-api-2"))
-                        .build();
+                return templates.template("#{any(org.slf4j.Logger)}.error(" + message + ", #{any(java.lang.Throwable)})", "slf4j-api-2");
             case Log4J1:
-                return JavaTemplate
-                        .builder("#{any(org.apache.log4j.Category)}.error(" + message + ", #{any(java.lang.Throwable)})")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "log4j-1.2.+"))
-                        .build();
-
+                return templates.template("#{any(org.apache.log4j.Category)}.error(" + message + ", #{any(java.lang.Throwable)})", "log4j-1.2.+");
             case Log4J2:
-                return JavaTemplate
-                        .builder("#{any(org.apache.logging.log4j.Logger)}.error(" + message + ", #{any(java.lang.Throwable)})")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "log4j-api-2.+"))
-                        .build();
+                return templates.template("#{any(org.apache.logging.log4j.Logger)}.error(" + message + ", #{any(java.lang.Throwable)})", "log4j-api-2.+");
             case COMMONS:
-                return JavaTemplate
-                        .builder("#{any(org.apache.commons.logging.Log)}.error(" + message + ", #{any(java.lang.Throwable)})")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "commons-logging-1.3.+"))
-                        .build();
+                return templates.template("#{any(org.apache.commons.logging.Log)}.error(" + message + ", #{any(java.lang.Throwable)})", "commons-logging-1.3.+");
             case SYSTEM:
-                return JavaTemplate
-                        .builder("#{any(java.lang.System.Logger)}.log(Level.ERROR, " + message + ", #{any(java.lang.Throwable)})")
-                        .imports("java.lang.System.Logger.Level")
-                        .build();
+                return templates.template("#{any(java.lang.System.Logger)}.log(Level.ERROR, " + message + ", #{any(java.lang.Throwable)})", null,
+                        "java.lang.System.Logger.Level");
             case JUL:
             default:
-                return JavaTemplate
-                        .builder("#{any(java.util.logging.Logger)}.log(Level.SEVERE, " + message + ", #{any(java.lang.Throwable)})")
-                        .imports("java.util.logging.Level")
-                        .build();
+                return templates.template("#{any(java.util.logging.Logger)}.log(Level.SEVERE, " + message + ", #{any(java.lang.Throwable)})", null,
+                        "java.util.logging.Level");
         }
     }
 }
@@ -15,24 +15,27 @@
  */
 package org.openrewrite.java.logging;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.logging.internal.JavaStringEscapes;
+import org.openrewrite.java.logging.internal.StructuralEquivalence;
 import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.tree.Expression;
-import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.JavaType;
-import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
 import org.openrewrite.staticanalysis.groovy.GroovyFileChecker;
 import org.openrewrite.staticanalysis.kotlin.KotlinFileChecker;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.openrewrite.Tree.randomId;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -49,48 +52,95 @@ public class ParameterizedLogging extends Recipe {
     @Nullable
     Boolean removeToString;
 
+    @Option(displayName = "Additional method patterns",
+            description = "Further methods to parameterize in the same pass, such as the other levels of the same logger.",
+            required = false,
+            example = "org.slf4j.Logger debug(..)"
+    )
+    @Nullable
+    List<String> additionalMethodPatterns;
+
     String displayName = "Parameterize logging statements";
 
     String description = "Transform logging statements using concatenation for messages and variables into a parameterized format. " +
             "For example, `logger.info(\"hi \" + userName)` becomes `logger.info(\"hi {}\", userName)`. This can " +
             "significantly boost performance for messages that otherwise would be assembled with String concatenation. " +
-            "Particularly impactful when the log level is not enabled, as no work is done to assemble the message.";
+            "Particularly impactful when the log level is not enabled, as no work is done to assemble the message. " +
+            "Messages built with `String.concat(..)`, or assembled in a local `StringBuilder`, `StringBuffer` or " +
+            "`String` that only the log statement uses, are parameterized too, and the code assembling them is removed.";
 
     Set<String> tags = new HashSet<>(Arrays.asList("RSPEC-S2629", "RSPEC-S3457"));
 
+    private static final MethodMatcher STRING_CONCAT = new MethodMatcher("java.lang.String concat(java.lang.String)");
+
+    public ParameterizedLogging(String methodPattern, @Nullable Boolean removeToString) {
+        this(methodPattern, removeToString, null);
+    }
+
+    @JsonCreator
+    public ParameterizedLogging(String methodPattern, @Nullable Boolean removeToString, @Nullable List<String> additionalMethodPatterns) {
+        this.methodPattern = methodPattern;
+        this.removeToString = removeToString;
+        this.additionalMethodPatterns = additionalMethodPatterns;
+    }
+
+    /**
+     * Parameterizes the given levels of a logger in a single pass.
+     *
+     * @param loggerType     the fully qualified name of the logger type, e.g. {@code org.slf4j.Logger}
+     * @param removeToString whether to remove {@code toString()} invocations from logging parameters
+     * @param level          the first logging method to parameterize, e.g. {@code info}
+     * @param moreLevels     further logging methods to parameterize in the same pass
+     */
+    public static ParameterizedLogging forLevels(String loggerType, @Nullable Boolean removeToString, String level, String... moreLevels) {
+        List<String> additionalMethodPatterns = new ArrayList<>(moreLevels.length);
+        for (String moreLevel : moreLevels) {
+            additionalMethodPatterns.add(loggerType + " " + moreLevel + "(..)");
+        }
+        return new ParameterizedLogging(loggerType + " " + level + "(..)", removeToString, additionalMethodPatterns);
+    }
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
+        Set<String> methodPatterns = new LinkedHashSet<>();
+        methodPatterns.add(methodPattern);
+        if (additionalMethodPatterns != null) {
+            methodPatterns.addAll(additionalMethodPatterns);
+        }
+        List<MethodMatcher> matchers = new ArrayList<>(methodPatterns.size());
+        List<TreeVisitor<?, ExecutionContext>> usesMethods = new ArrayList<>(methodPatterns.size());
+        for (String pattern : methodPatterns) {
+            matchers.add(new MethodMatcher(pattern, true));
+            usesMethods.add(new UsesMethod<>(pattern, true));
+        }
+        //noinspection unchecked
         TreeVisitor<?, ExecutionContext> preconditions = Preconditions.and(
-                new UsesMethod<>(methodPattern, true),
+                usesMethods.size() == 1 ? usesMethods.get(0) : Preconditions.or(usesMethods.toArray(new TreeVisitor[0])),
                 Preconditions.not(new KotlinFileChecker<>()),
                 Preconditions.not(new GroovyFileChecker<>()));
         return Preconditions.check(preconditions, new JavaIsoVisitor<ExecutionContext>() {
-            private final MethodMatcher matcher = new MethodMatcher(methodPattern, true);
             private final RemoveToStringVisitor removeToStringVisitor = new RemoveToStringVisitor();
 
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
-                if (matcher.matches(m) && !m.getArguments().isEmpty() && !(m.getArguments().get(0) instanceof J.Empty)) {
+                if (matchesAny(m) && !m.getArguments().isEmpty() && !(m.getArguments().get(0) instanceof J.Empty)) {
                     final int logMsgIndex = isMarker(m.getArguments().get(0)) ? 1 : 0;
                     // Only process if we have at most 2 arguments after accounting for marker
                     if (m.getArguments().size() - logMsgIndex > 2) {
                         return m;
                     }
                     Expression logMsg = m.getArguments().get(logMsgIndex);
-                    if (logMsg instanceof J.Binary) {
-                        StringBuilder messageBuilder = new StringBuilder();
-                        List<Expression> newArgList = new ArrayList<>();
-                        List<Expression> concatenationArgs = new ArrayList<>();
+                    if (logMsg instanceof J.Binary || isStringConcat(logMsg)) {
                         List<Expression> regularArgs = new ArrayList<>();
                         Expression possibleThrowable = null;
+                        MessageAndArguments literalAndArgs = null;
 
                         // First, process all arguments
                         for (int index = 0; index < m.getArguments().size(); index++) {
                             Expression arg = m.getArguments().get(index);
-                            if (index == logMsgIndex && arg instanceof J.Binary) {
-                                MessageAndArguments literalAndArgs = concatenationToLiteral(arg, new MessageAndArguments("", new ArrayList<>()));
-                                concatenationArgs.addAll(literalAndArgs.arguments);
+                            if (index == logMsgIndex) {
+                                literalAndArgs = concatenationToLiteral(arg);
                             } else if (index == m.getArguments().size() - 1 &&
                                     TypeUtils.isAssignableTo("java.lang.Throwable", arg.getType())) {
                                 possibleThrowable = arg;
@@ -101,73 +151,130 @@ public class ParameterizedLogging extends Recipe {
 
                         // Nothing to parameterize when the message is just concatenated string literals;
                         // skip to preserve the original formatting (e.g. line breaks between literals).
-                        if (concatenationArgs.isEmpty()) {
+                        if (literalAndArgs == null || literalAndArgs.arguments.isEmpty()) {
                             return m;
                         }
 
                         // Check if any of the concatenation arguments is a throwable
                         // If so, skip parameterization to preserve exception handling behavior
-                        boolean hasThrowableInConcatenation = concatenationArgs.stream()
-                                .anyMatch(arg -> TypeUtils.isAssignableTo("java.lang.Throwable", arg.getType()));
-
-                        if (hasThrowableInConcatenation) {
-                            return m; // Skip parameterization when throwables are concatenated
-                        }
-
-                        // Build the message template
-                        ListUtils.map(m.getArguments(), (index, message) -> {
-                            if (index > 0) {
-                                messageBuilder.append(", ");
-                            }
-                            if (index == logMsgIndex && message instanceof J.Binary) {
-                                messageBuilder.append("\"");
-                                MessageAndArguments literalAndArgs = concatenationToLiteral(message, new MessageAndArguments("", new ArrayList<>()));
-                                messageBuilder.append(literalAndArgs.message);
-                                messageBuilder.append("\"");
-                                literalAndArgs.arguments.forEach(arg -> messageBuilder.append(", #{any()}"));
-                            } else {
-                                messageBuilder.append("#{any()}");
+                        for (Expression arg : literalAndArgs.arguments) {
+                            if (TypeUtils.isAssignableTo("java.lang.Throwable", arg.getType())) {
+                                return m; // Skip parameterization when throwables are concatenated
                             }
-                            return message;
-                        });
+                        }
 
-                        // Assemble arguments in correct order: regular args, concatenation args, throwable (if any)
-                        newArgList.addAll(regularArgs);
-                        newArgList.addAll(concatenationArgs);
+                        // Assemble arguments in correct order: message, regular args, concatenation args, throwable (if any)
+                        List<Expression> newArgList = new ArrayList<>(regularArgs);
+                        newArgList.add(logMsgIndex, literalAndArgs.toMessage(logMsg.getPrefix()));
+                        for (Expression arg : literalAndArgs.arguments) {
+                            newArgList.add(arg.withPrefix(Space.SINGLE_SPACE));
+                        }
                         if (possibleThrowable != null) {
                             newArgList.add(possibleThrowable);
                         }
-
-                        m = JavaTemplate.apply(escapeDollarSign(messageBuilder.toString()), new Cursor(getCursor().getParent(), m), m.getCoordinates().replaceArguments(), newArgList.toArray());
+                        m = withOverload(m.withArguments(newArgList));
                     } else if (logMsg instanceof J.Identifier && TypeUtils.isAssignableTo("java.lang.Throwable", logMsg.getType())) {
                         return m;
                     } else if (!TypeUtils.isString(logMsg.getType()) && logMsg.getType() instanceof JavaType.Class &&
                             !TypeUtils.isAssignableTo("java.util.function.Supplier", logMsg.getType())) {
-                        StringBuilder messageBuilder = new StringBuilder();
-                        if (logMsgIndex == 1) {
-                            messageBuilder.append("#{any()}, ");
-                        }
-                        messageBuilder.append("\"{}\"");
-                        for (int i = logMsgIndex; i < m.getArguments().size(); i++) {
-                            messageBuilder.append(", #{any()}");
-                        }
-                        m = JavaTemplate.builder(escapeDollarSign(messageBuilder.toString()))
-                                .contextSensitive()
-                                .build()
-                                .apply(new Cursor(getCursor().getParent(), m), m.getCoordinates().replaceArguments(), m.getArguments().toArray());
+                        List<Expression> newArgList = new ArrayList<>(m.getArguments());
+                        newArgList.set(logMsgIndex, logMsg.withPrefix(Space.SINGLE_SPACE));
+                        newArgList.add(logMsgIndex, new J.Literal(randomId(), logMsg.getPrefix(), Markers.EMPTY,
+                                "{}", "\"{}\"", null, JavaType.Primitive.String));
+                        m = withOverload(m.withArguments(newArgList));
                     }
                     if (Boolean.TRUE.equals(removeToString)) {
                         m = m.withArguments(ListUtils.map(m.getArguments(), arg -> (Expression) removeToStringVisitor.visitNonNull(arg, ctx, getCursor())));
                     }
                 }
 
-                // Avoid changing reference if the templating didn't actually change the contents of the method
-                if (m != method && m.print(getCursor().getParentTreeCursor()).equals(method.print(getCursor().getParentTreeCursor()))) {
+                // Avoid changing reference if the rewrite didn't actually change the contents of the method
+                if (m != method && StructuralEquivalence.printsEqual(method, m, getCursor().getParentTreeCursor())) {
                     return method;
                 }
                 return m;
             }
 
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                List<Statement> statements = b.getStatements();
+                for (int i = 0; i < statements.size(); i++) {
+                    AssembledMessage assembled = AssembledMessage.of(statements, i);
+                    if (assembled == null) {
+                        continue;
+                    }
+                    J.MethodInvocation folded = fold(assembled, (J.MethodInvocation) statements.get(assembled.logStatementIndex), ctx);
+                    if (folded == null || references(statements.subList(assembled.logStatementIndex + 1, statements.size()), assembled.variable)) {
+                        continue;
+                    }
+                    // The statements assembling the message are dead once it is parameterized
+                    List<Statement> remaining = new ArrayList<>(statements.subList(0, i));
+                    remaining.add(folded.withPrefix(statements.get(i).getPrefix()));
+                    remaining.addAll(statements.subList(assembled.logStatementIndex + 1, statements.size()));
+                    statements = remaining;
+                }
+                return statements == b.getStatements() ? b : b.withStatements(statements);
+            }
+
+            /**
+             * @return the log statement with the assembled message parameterized, or {@code null} when it is not a
+             * log statement to parameterize or uses the assembled variable other than as its message
+             */
+            private J.@Nullable MethodInvocation fold(AssembledMessage assembled, J.MethodInvocation m, ExecutionContext ctx) {
+                if (!matchesAny(m) || m.getArguments().isEmpty()) {
+                    return null;
+                }
+                List<Expression> args = m.getArguments();
+                int logMsgIndex = isMarker(args.get(0)) ? 1 : 0;
+                if (args.size() <= logMsgIndex || !assembled.isMessage(args.get(logMsgIndex)) ||
+                        args.size() - logMsgIndex > 2 ||
+                        args.size() - logMsgIndex == 2 && !TypeUtils.isAssignableTo("java.lang.Throwable", args.get(args.size() - 1).getType()) ||
+                        references(args.subList(0, logMsgIndex), assembled.variable) ||
+                        references(args.subList(logMsgIndex + 1, args.size()), assembled.variable)) {
+                    return null;
+                }
+                MessageAndArguments literalAndArgs = new MessageAndArguments();
+                for (Expression piece : assembled.pieces) {
+                    addConcatenation(piece, literalAndArgs, false);
+                }
+                for (Expression arg : literalAndArgs.arguments) {
+                    if (TypeUtils.isAssignableTo("java.lang.Throwable", arg.getType())) {
+                        return null;
+                    }
+                }
+
+                List<Expression> newArgList = new ArrayList<>(args.subList(0, logMsgIndex));
+                newArgList.add(literalAndArgs.toMessage(args.get(logMsgIndex).getPrefix()));
+                for (Expression arg : literalAndArgs.arguments) {
+                    newArgList.add(arg.withPrefix(Space.SINGLE_SPACE));
+                }
+                newArgList.addAll(args.subList(logMsgIndex + 1, args.size()));
+                J.MethodInvocation folded = withOverload(m.withArguments(newArgList));
+                if (Boolean.TRUE.equals(removeToString)) {
+                    folded = folded.withArguments(ListUtils.map(folded.getArguments(), arg -> (Expression) removeToStringVisitor.visitNonNull(arg, ctx, getCursor())));
+                }
+                return folded;
+            }
+
+            /**
+             * Points the method type at the overload the new arguments resolve to, e.g. {@code info(String, Object)}
+             * rather than the {@code info(String)} the statement was originally attributed with.
+             */
+            private J.MethodInvocation withOverload(J.MethodInvocation m) {
+                JavaType.Method overload = resolveOverload(m.getMethodType(), m.getArguments());
+                return overload == null ? m : m.withMethodType(overload).withName(m.getName().withType(overload));
+            }
+
+            private boolean matchesAny(J.MethodInvocation m) {
+                for (MethodMatcher matcher : matchers) {
+                    if (matcher.matches(m)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
             private boolean isMarker(Expression expression) {
                 JavaType expressionType = expression.getType();
                 return TypeUtils.isAssignableTo("org.slf4j.Marker", expressionType) ||
@@ -178,6 +285,237 @@ public class ParameterizedLogging extends Recipe {
         });
     }
 
+    private static boolean isStringConcat(Expression expression) {
+        return expression instanceof J.MethodInvocation && ((J.MethodInvocation) expression).getSelect() != null &&
+                STRING_CONCAT.matches((J.MethodInvocation) expression);
+    }
+
+    /**
+     * @return whether the block assembles a log message in a local variable before logging it, which only the visitor
+     * of this recipe visiting the whole block, rather than just the log statement, can parameterize
+     */
+    public static boolean assemblesMessage(J.Block block) {
+        List<Statement> statements = block.getStatements();
+        for (int i = 0; i < statements.size(); i++) {
+            if (AssembledMessage.of(statements, i) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the most specific overload of the same name accepting the given arguments, preferring fixed arity over
+     * varargs the way the compiler does, or {@code null} when none can be determined from the available types
+     */
+    private static JavaType.@Nullable Method resolveOverload(JavaType.@Nullable Method methodType, List<Expression> args) {
+        if (methodType == null) {
+            return null;
+        }
+        for (boolean varargs : new boolean[]{false, true}) {
+            JavaType.Method best = null;
+            for (JavaType.Method candidate : methodType.getDeclaringType().getMethods()) {
+                if (candidate.getName().equals(methodType.getName()) &&
+                        candidate.hasFlags(Flag.Varargs) == varargs &&
+                        accepts(candidate, args, varargs) &&
+                        (best == null || isMoreSpecific(candidate, best))) {
+                    best = candidate;
+                }
+            }
+            if (best != null) {
+                return best;
+            }
+        }
+        return null;
+    }
+
+    private static boolean accepts(JavaType.Method candidate, List<Expression> args, boolean varargs) {
+        List<JavaType> parameterTypes = candidate.getParameterTypes();
+        int fixed = varargs ? parameterTypes.size() - 1 : parameterTypes.size();
+        if (varargs ? args.size() < fixed : args.size() != fixed) {
+            return false;
+        }
+        for (int i = 0; i < args.size(); i++) {
+            JavaType parameterType = i < fixed ? parameterTypes.get(i) : parameterTypes.get(fixed);
+            if (i >= fixed) {
+                if (!(parameterType instanceof JavaType.Array)) {
+                    return false;
+                }
+                parameterType = ((JavaType.Array) parameterType).getElemType();
+            }
+            if (!accepts(parameterType, args.get(i).getType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean accepts(JavaType parameterType, @Nullable JavaType argumentType) {
+        return TypeUtils.isObject(parameterType) ||
+                TypeUtils.isString(parameterType) && TypeUtils.isString(argumentType) ||
+                TypeUtils.isAssignableTo(parameterType, argumentType);
+    }
+
+    private static boolean isMoreSpecific(JavaType.Method candidate, JavaType.Method than) {
+        List<JavaType> candidateTypes = candidate.getParameterTypes();
+        List<JavaType> thanTypes = than.getParameterTypes();
+        if (candidateTypes.size() != thanTypes.size()) {
+            return false;
+        }
+        for (int i = 0; i < candidateTypes.size(); i++) {
+            if (!TypeUtils.isAssignableTo(thanTypes.get(i), candidateTypes.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean references(List<? extends J> trees, J.Identifier variable) {
+        for (J tree : trees) {
+            if (references(tree, variable)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean references(J tree, J.Identifier variable) {
+        return new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, AtomicBoolean found) {
+                if (identifier.getSimpleName().equals(variable.getSimpleName())) {
+                    found.set(true);
+                }
+                return identifier;
+            }
+        }.reduce(tree, new AtomicBoolean()).get();
+    }
+
+    /**
+     * A log message assembled in a local variable before the log statement: a {@code StringBuilder} or
+     * {@code StringBuffer} that is only appended to, or a {@code String} that is only added to with {@code +=}, in
+     * the statements right after its declaration.
+     */
+    private static final class AssembledMessage {
+        final J.Identifier variable;
+        final boolean builder;
+        final List<Expression> pieces;
+        final int logStatementIndex;
+
+        private AssembledMessage(J.Identifier variable, boolean builder, List<Expression> pieces, int logStatementIndex) {
+            this.variable = variable;
+            this.builder = builder;
+            this.pieces = pieces;
+            this.logStatementIndex = logStatementIndex;
+        }
+
+        static @Nullable AssembledMessage of(List<Statement> statements, int declarationIndex) {
+            if (!(statements.get(declarationIndex) instanceof J.VariableDeclarations)) {
+                return null;
+            }
+            J.VariableDeclarations declarations = (J.VariableDeclarations) statements.get(declarationIndex);
+            if (declarations.getVariables().size() != 1 || declarations.getVariables().get(0).getInitializer() == null) {
+                return null;
+            }
+            J.VariableDeclarations.NamedVariable named = declarations.getVariables().get(0);
+            J.Identifier variable = named.getName();
+            JavaType type = declarations.getType();
+            boolean builder = TypeUtils.isOfClassType(type, "java.lang.StringBuilder") ||
+                    TypeUtils.isOfClassType(type, "java.lang.StringBuffer");
+            if (!builder && !TypeUtils.isString(type)) {
+                return null;
+            }
+
+            List<Expression> pieces = new ArrayList<>();
+            if (builder && !addAppended(named.getInitializer(), null, pieces)) {
+                return null;
+            } else if (!builder) {
+                pieces.add(named.getInitializer());
+            }
+            int i = declarationIndex + 1;
+            for (; i < statements.size(); i++) {
+                Statement statement = statements.get(i);
+                if (builder && statement instanceof J.MethodInvocation && addAppended((J.MethodInvocation) statement, variable, pieces)) {
+                    continue;
+                }
+                if (!builder && statement instanceof J.AssignmentOperation &&
+                        ((J.AssignmentOperation) statement).getOperator() == J.AssignmentOperation.Type.Addition &&
+                        ((J.AssignmentOperation) statement).getVariable() instanceof J.Identifier &&
+                        ((J.Identifier) ((J.AssignmentOperation) statement).getVariable()).getSimpleName().equals(variable.getSimpleName())) {
+                    pieces.add(((J.AssignmentOperation) statement).getAssignment());
+                    continue;
+                }
+                break;
+            }
+            // A string that is neither concatenated nor added to is only an alias of its initializer
+            if (i == statements.size() || !(statements.get(i) instanceof J.MethodInvocation) || references(pieces, variable) ||
+                    !builder && pieces.size() == 1 && !(pieces.get(0) instanceof J.Binary || isStringConcat(pieces.get(0)))) {
+                return null;
+            }
+            return new AssembledMessage(variable, builder, pieces, i);
+        }
+
+        /**
+         * @return whether the message is the assembled variable, or {@code sb.toString()} for a builder
+         */
+        boolean isMessage(Expression message) {
+            if (message instanceof J.Identifier) {
+                return ((J.Identifier) message).getSimpleName().equals(variable.getSimpleName());
+            }
+            if (!builder || !(message instanceof J.MethodInvocation)) {
+                return false;
+            }
+            J.MethodInvocation toString = (J.MethodInvocation) message;
+            return "toString".equals(toString.getSimpleName()) &&
+                    (toString.getArguments().isEmpty() || toString.getArguments().get(0) instanceof J.Empty) &&
+                    toString.getSelect() instanceof J.Identifier &&
+                    ((J.Identifier) toString.getSelect()).getSimpleName().equals(variable.getSimpleName());
+        }
+
+        /**
+         * Adds the pieces of an append chain, such as {@code sb.append("id=").append(id)}, rooted in the variable, or in
+         * a new builder when there is no variable yet.
+         *
+         * @return whether the expression is such a chain of single argument appends
+         */
+        private static boolean addAppended(Expression expression, J.@Nullable Identifier variable, List<Expression> pieces) {
+            Deque<Expression> appended = new ArrayDeque<>();
+            Expression e = expression;
+            while (e instanceof J.MethodInvocation) {
+                J.MethodInvocation append = (J.MethodInvocation) e;
+                if (!"append".equals(append.getSimpleName()) || append.getArguments().size() != 1 ||
+                        append.getArguments().get(0) instanceof J.Empty ||
+                        append.getArguments().get(0).getType() instanceof JavaType.Array ||
+                        append.getMethodType() == null ||
+                        !(TypeUtils.isOfClassType(append.getMethodType().getDeclaringType(), "java.lang.StringBuilder") ||
+                                TypeUtils.isOfClassType(append.getMethodType().getDeclaringType(), "java.lang.StringBuffer"))) {
+                    return false;
+                }
+                appended.push(append.getArguments().get(0));
+                e = append.getSelect();
+            }
+            if (variable != null) {
+                if (!(e instanceof J.Identifier) || !((J.Identifier) e).getSimpleName().equals(variable.getSimpleName()) ||
+                        appended.isEmpty()) {
+                    return false;
+                }
+            } else {
+                if (!(e instanceof J.NewClass) || ((J.NewClass) e).getBody() != null) {
+                    return false;
+                }
+                List<Expression> args = ((J.NewClass) e).getArguments();
+                if (args.size() == 1 && TypeUtils.isString(args.get(0).getType())) {
+                    appended.push(args.get(0));
+                } else if (!(args.isEmpty() || args.get(0) instanceof J.Empty ||
+                        args.size() == 1 && args.get(0).getType() == JavaType.Primitive.Int)) {
+                    return false;
+                }
+            }
+            pieces.addAll(appended);
+            return true;
+        }
+    }
+
     private static class RemoveToStringVisitor extends JavaVisitor<ExecutionContext> {
         private final MethodMatcher TO_STRING = new MethodMatcher("*..* toString()");
 
@@ -195,72 +533,112 @@ public class ParameterizedLogging extends Recipe {
         }
     }
 
+    /**
+     * The message built from a concatenation: the pieces of the new message literal and the expressions that become
+     * arguments. Adjacent string literals stay separate pieces, so line breaks between them are kept.
+     */
     private static final class MessageAndArguments {
-        private final List<Expression> arguments;
-        private String message;
+        private final List<Expression> arguments = new ArrayList<>();
+        private final List<StringBuilder> values = new ArrayList<>();
+        private final List<StringBuilder> sources = new ArrayList<>();
+        private final List<Space> prefixes = new ArrayList<>();
 
         boolean previousMessageWasStringLiteral;
 
-        private MessageAndArguments(String message, List<Expression> arguments) {
-            this.message = message;
-            this.arguments = arguments;
+        private MessageAndArguments() {
+            split(Space.EMPTY);
         }
-    }
 
-    private static MessageAndArguments concatenationToLiteral(Expression message, MessageAndArguments result) {
-        if (!(message instanceof J.Binary)) {
-            result.arguments.add(message);
-            return result;
+        void split(Space prefix) {
+            values.add(new StringBuilder());
+            sources.add(new StringBuilder());
+            prefixes.add(prefix);
         }
 
-        J.Binary concat = (J.Binary) message;
-        if (concat.getLeft() instanceof J.Binary && ((J.Binary) concat.getLeft()).getOperator() == J.Binary.Type.Addition) {
-            concatenationToLiteral(concat.getLeft(), result);
-        } else if (concat.getLeft() instanceof J.Literal) {
-            J.Literal left = (J.Literal) concat.getLeft();
-            result.message = getLiteralValue(left) + result.message;
-            result.previousMessageWasStringLiteral = left.getType() == JavaType.Primitive.String;
-        } else {
-            result.message = "{}" + result.message;
-            result.arguments.add(concat.getLeft());
-            result.previousMessageWasStringLiteral = false;
+        void append(String value, String source) {
+            values.get(values.size() - 1).append(value);
+            sources.get(sources.size() - 1).append(source);
         }
 
-        if (concat.getRight() instanceof J.Binary && ((J.Binary) concat.getRight()).getOperator() == J.Binary.Type.Addition) {
-            concatenationToLiteral(concat.getRight(), result);
-        } else if (concat.getRight() instanceof J.Literal) {
-            J.Literal right = (J.Literal) concat.getRight();
-            boolean rightIsStringLiteral = right.getType() == JavaType.Primitive.String;
-            if (result.previousMessageWasStringLiteral && rightIsStringLiteral) {
-                result.message += "\" +" + right.getPrefix().getWhitespace() + "\"" + getLiteralValue(right);
-            } else {
-                result.message += getLiteralValue(right);
-            }
-            result.previousMessageWasStringLiteral = rightIsStringLiteral;
-        } else {
-            // prevent inadvertently appending {} to # to create #{}, which creates an additional JavaTemplate argument
-            if (result.message.endsWith("#")) {
-                result.message += "\\";
+        Expression toMessage(Space prefix) {
+            Expression message = literal(0);
+            for (int i = 1; i < values.size(); i++) {
+                message = new J.Binary(randomId(), Space.EMPTY, Markers.EMPTY, message,
+                        JLeftPadded.build(J.Binary.Type.Addition).withBefore(Space.SINGLE_SPACE),
+                        literal(i), JavaType.Primitive.String);
             }
-            result.message += "{}";
-            result.arguments.add(concat.getRight());
-            result.previousMessageWasStringLiteral = false;
+            return message.withPrefix(prefix);
         }
 
+        private J.Literal literal(int i) {
+            return new J.Literal(randomId(), prefixes.get(i), Markers.EMPTY, values.get(i).toString(),
+                    "\"" + sources.get(i) + "\"", null, JavaType.Primitive.String);
+        }
+    }
+
+    /**
+     * @return the message and arguments a concatenated log message parameterizes to
+     */
+    private static MessageAndArguments concatenationToLiteral(Expression message) {
+        MessageAndArguments result = new MessageAndArguments();
+        addConcatenation(message, result, true);
         return result;
     }
 
-    private static @Nullable Object getLiteralValue(J.Literal literal) {
-        if (literal.getValueSource() == null || literal.getType() != JavaType.Primitive.String) {
-            return literal.getValue();
+    /**
+     * Flattens a concatenation, of {@code +} or {@code String.concat(..)}, in one left-to-right pass over its
+     * operands, without recursion, so long chains neither take quadratic time nor overflow the stack. An addition of
+     * numbers is kept whole, as it is evaluated before it is concatenated.
+     *
+     * @param splitLiterals whether adjacent string literals stay separate pieces of the message
+     */
+    private static void addConcatenation(Expression concatenation, MessageAndArguments result, boolean splitLiterals) {
+        Deque<Expression> operands = new ArrayDeque<>();
+        operands.push(concatenation);
+        while (!operands.isEmpty()) {
+            Expression operand = operands.pop();
+            if (operand instanceof J.Binary && ((J.Binary) operand).getOperator() == J.Binary.Type.Addition &&
+                    !isNumeric(operand.getType())) {
+                operands.push(((J.Binary) operand).getRight());
+                operands.push(((J.Binary) operand).getLeft());
+            } else if (isStringConcat(operand)) {
+                operands.push(((J.MethodInvocation) operand).getArguments().get(0));
+                operands.push(((J.MethodInvocation) operand).getSelect());
+            } else if (operand instanceof J.Literal) {
+                J.Literal literal = (J.Literal) operand;
+                boolean isStringLiteral = literal.getType() == JavaType.Primitive.String;
+                if (splitLiterals && result.previousMessageWasStringLiteral && isStringLiteral) {
+                    result.split(Space.format(literal.getPrefix().getWhitespace()));
+                }
+                result.append(literalValue(literal), literalSource(literal));
+                result.previousMessageWasStringLiteral = isStringLiteral;
+            } else {
+                result.append("{}", "{}");
+                result.arguments.add(operand);
+                result.previousMessageWasStringLiteral = false;
+            }
         }
-        return literal
-                .getValueSource()
-                .substring(1, literal.getValueSource().length() - 1)
-                .replace("\\", "\\\\");
     }
 
-    private static String escapeDollarSign(String value) {
-        return value.replaceAll("\\$", "\\\\\\$");
+    private static boolean isNumeric(@Nullable JavaType type) {
+        return type instanceof JavaType.Primitive && type != JavaType.Primitive.String &&
+                type != JavaType.Primitive.Null && type != JavaType.Primitive.None;
+    }
+
+    private static String literalValue(J.Literal literal) {
+        return String.valueOf(literal.getValue());
+    }
+
+    /**
+     * @return the literal as it appears between the quotes of a string literal, keeping the original escapes of a
+     * string literal
+     */
+    private static String literalSource(J.Literal literal) {
+        String valueSource = literal.getValueSource();
+        if (literal.getType() == JavaType.Primitive.String && valueSource != null &&
+                valueSource.startsWith("\"") && !valueSource.startsWith("\"\"\"")) {
+            return valueSource.substring(1, valueSource.length() - 1);
+        }
+        return JavaStringEscapes.escapeJavaStringContent(literalValue(literal));
     }
 }
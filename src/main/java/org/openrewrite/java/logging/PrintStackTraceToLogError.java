@@ -19,21 +19,14 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
-import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.FindFieldsOfType;
+import org.openrewrite.java.logging.internal.ClassLoggers;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.service.AnnotationService;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.Space;
 import org.openrewrite.java.tree.TypeUtils;
-import org.openrewrite.marker.Markers;
-
-import java.util.Set;
-
-import static java.util.Collections.emptyList;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -66,7 +59,7 @@ public class PrintStackTraceToLogError extends Recipe {
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         MethodMatcher printStackTrace = new MethodMatcher("java.lang.Throwable printStackTrace(..)");
         LoggingFramework framework = LoggingFramework.fromOption(loggingFramework);
-        AnnotationMatcher lombokLogAnnotationMatcher = new AnnotationMatcher("@lombok.extern..*");
+        ClassLoggers classLoggers = new ClassLoggers(framework, loggerName == null ? "log" : loggerName);
 
         JavaIsoVisitor<ExecutionContext> visitor = new JavaIsoVisitor<ExecutionContext>() {
             @Override
@@ -86,16 +79,10 @@ public class PrintStackTraceToLogError extends Recipe {
                         }
                     }
                     Cursor classCursor = getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance);
-                    AnnotationService annotationService = service(AnnotationService.class);
-                    Set<J.VariableDeclarations> loggers = FindFieldsOfType.find(classCursor.getValue(), framework.getLoggerType());
-                    if (!loggers.isEmpty()) {
-                        J.Identifier logField = loggers.iterator().next().getVariables().get(0).getName();
-                        m = replaceMethodInvocation(m, logField, ctx);
-                    } else if (annotationService.matches(classCursor, lombokLogAnnotationMatcher)) {
-                        String fieldName = loggerName == null ? "log" : loggerName;
-                        J.Identifier logField = new J.Identifier(Tree.randomId(), Space.SINGLE_SPACE, Markers.EMPTY, emptyList(), fieldName, null, null);
+                    J.Identifier logField = classLoggers.find(classCursor, service(AnnotationService.class));
+                    if (logField != null) {
                         m = replaceMethodInvocation(m, logField, ctx);
-                    } else if (addLogger != null && addLogger) {
+                    } else if (addLogger != null && addLogger && classLoggers.requestLogger(classCursor)) {
                         doAfterVisit(AddLogger.addLogger(classCursor.getValue(), framework, loggerName == null ? "logger" : loggerName, ctx));
                     }
                 }
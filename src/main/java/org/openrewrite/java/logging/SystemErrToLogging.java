@@ -21,19 +21,16 @@ import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.FindFieldsOfType;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.ClassLoggers;
+import org.openrewrite.java.logging.internal.JavaTemplateCache;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.service.AnnotationService;
 import org.openrewrite.java.tree.*;
-import org.openrewrite.marker.Markers;
 
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import static java.util.Collections.emptyList;
-
 @EqualsAndHashCode(callSuper = false)
 @Value
 public class SystemErrToLogging extends Recipe {
@@ -67,9 +64,12 @@ public class SystemErrToLogging extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         LoggingFramework framework = LoggingFramework.fromOption(loggingFramework);
-        AnnotationMatcher lombokLogAnnotationMatcher = new AnnotationMatcher("@lombok.extern..*");
+        ClassLoggers classLoggers = new ClassLoggers(framework, loggerName == null ? "log" : loggerName);
+        TreeVisitor<?, ExecutionContext> parameterizedLogging = new ParameterizedLogging(framework == LoggingFramework.SYSTEM ?
+                framework.getLoggerType() + " log(..)" :
+                framework.getLoggerType() + " error(..)", false).getVisitor();
 
-        return Preconditions.check(new UsesMethod<>(systemErrPrint), Repeat.repeatUntilStable(new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(LoggingUsageIndex.usesMethod("java.io.PrintStream", "print*"), Repeat.repeatUntilStable(new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
                 J.Block b = super.visitBlock(block, ctx);
@@ -143,16 +143,10 @@ public class SystemErrToLogging extends Recipe {
             private J.MethodInvocation logInsteadOfPrint(Cursor printCursor, ExecutionContext ctx, @Nullable Expression exceptionPrintStackTrace) {
                 J.MethodInvocation print = printCursor.getValue();
                 Cursor classCursor = getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance);
-                AnnotationService annotationService = service(AnnotationService.class);
-                Set<J.VariableDeclarations> loggers = FindFieldsOfType.find(classCursor.getValue(), framework.getLoggerType());
-                if (!loggers.isEmpty()) {
-                    J.Identifier computedLoggerName = loggers.iterator().next().getVariables().get(0).getName();
-                    print = replaceMethodInvocation(printCursor, ctx, exceptionPrintStackTrace, print, computedLoggerName);
-                } else if (annotationService.matches(classCursor, lombokLogAnnotationMatcher)) {
-                    String fieldName = loggerName == null ? "log" : loggerName;
-                    J.Identifier logField = new J.Identifier(Tree.randomId(), Space.SINGLE_SPACE, Markers.EMPTY, emptyList(), fieldName, null, null);
-                    print = replaceMethodInvocation(printCursor, ctx, exceptionPrintStackTrace, print, logField);
-                } else if (addLogger != null && addLogger) {
+                J.Identifier logger = classLoggers.find(classCursor, service(AnnotationService.class));
+                if (logger != null) {
+                    print = replaceMethodInvocation(printCursor, ctx, exceptionPrintStackTrace, print, logger);
+                } else if (addLogger != null && addLogger && classLoggers.requestLogger(classCursor)) {
                     doAfterVisit(AddLogger.addLogger(classCursor.getValue(), framework, loggerName == null ? "logger" : loggerName, ctx));
                 }
                 return print;
@@ -184,47 +178,25 @@ public class SystemErrToLogging extends Recipe {
                     maybeAddImport("java.lang.System.Logger.Level");
                 }
 
-                String methodPattern;
-                if (framework == LoggingFramework.SYSTEM) {
-                    methodPattern = framework.getLoggerType() + " log(..)";
-                } else {
-                    methodPattern = framework.getLoggerType() + " error(..)";
-                }
-
-                return (J.MethodInvocation) new ParameterizedLogging(methodPattern, false)
-                        .getVisitor()
-                        .visitNonNull(print, ctx, printCursor);
+                return (J.MethodInvocation) parameterizedLogging.visitNonNull(print, ctx, printCursor);
             }
 
             public JavaTemplate getErrorTemplateNoException(ExecutionContext ctx) {
+                JavaTemplateCache templates = JavaTemplateCache.get(ctx);
                 switch (framework) {
                     case SLF4J:
-                        return JavaTemplate
-                                .builder("#{any(org.slf4j.Logger)}.error(#{any(String)});")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "slf4j-api-2"))
-                                .build();
+                        return templates.template("#{any(org.slf4j.Logger)}.error(#{any(String)});", "slf4j-api-2");
                     case Log4J1:
-                        return JavaTemplate
-                                .builder("#{any(org.apache.log4j.Category)}.error(#{any(String)});")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "log4j-1.2.+"))
-                                .build();
-
+                        return templates.template("#{any(org.apache.log4j.Category)}.error(#{any(String)});", "log4j-1.2.+");
                     case Log4J2:
-                        return JavaTemplate
-                                .builder("#{any(org.apache.logging.log4j.Logger)}.error(#{any(String)});")
-                                .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "log4j-api-2.+"))
-                                .build();
+                        return templates.template("#{any(org.apache.logging.log4j.Logger)}.error(#{any(String)});", "log4j-api-2.+");
                     case SYSTEM:
-                        return JavaTemplate
-                                .builder("#{any(java.lang.System.Logger)}.log(Level.ERROR, #{any(String)});")
-                                .imports("java.lang.System.Logger.Level")
-                                .build();
+                        return templates.template("#{any(java.lang.System.Logger)}.log(Level.ERROR, #{any(String)});", null,
+                                "java.lang.System.Logger.Level");
                     case JUL:
                     default:
-                        return JavaTemplate
-                                .builder("#{any(java.util.logging.Logger)}.log(Level.SEVERE, #{any(String)});")
-                                .imports("java.util.logging.Level")
-                                .build();
+                        return templates.template("#{any(java.util.logging.Logger)}.log(Level.SEVERE, #{any(String)});", null,
+                                "java.util.logging.Level");
                 }
             }
         }));
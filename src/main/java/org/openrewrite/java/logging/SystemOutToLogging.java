@@ -20,15 +20,11 @@ import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.FindFieldsOfType;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.ClassLoggers;
+import org.openrewrite.java.logging.internal.JavaTemplateCache;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.service.AnnotationService;
 import org.openrewrite.java.tree.*;
-import org.openrewrite.marker.Markers;
-
-import java.util.Set;
-
-import static java.util.Collections.emptyList;
 
 @EqualsAndHashCode(callSuper = false)
 @Value
@@ -69,9 +65,12 @@ public class SystemOutToLogging extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         LoggingFramework framework = LoggingFramework.fromOption(loggingFramework);
-        AnnotationMatcher lombokLogAnnotationMatcher = new AnnotationMatcher("@lombok.extern..*");
+        ClassLoggers classLoggers = new ClassLoggers(framework, loggerName == null ? "log" : loggerName);
+        TreeVisitor<?, ExecutionContext> parameterizedLogging = new ParameterizedLogging(framework == LoggingFramework.SYSTEM ?
+                framework.getLoggerType() + " log(..)" :
+                framework.getLoggerType() + " " + getLevel() + "(..)", false).getVisitor();
 
-        return Preconditions.check(new UsesMethod<>(systemOutPrint), Repeat.repeatUntilStable(new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(LoggingUsageIndex.usesMethod("java.io.PrintStream", "print*"), Repeat.repeatUntilStable(new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
@@ -90,16 +89,10 @@ public class SystemOutToLogging extends Recipe {
             private J.MethodInvocation logInsteadOfPrint(Cursor printCursor, ExecutionContext ctx) {
                 J.MethodInvocation print = printCursor.getValue();
                 Cursor classCursor = getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance);
-                AnnotationService annotationService = service(AnnotationService.class);
-                Set<J.VariableDeclarations> loggers = FindFieldsOfType.find(classCursor.getValue(), framework.getLoggerType());
-                if (!loggers.isEmpty()) {
-                    J.Identifier computedLoggerName = loggers.iterator().next().getVariables().get(0).getName();
-                    print = replaceMethodInvocation(printCursor, ctx, print, computedLoggerName);
-                } else if (annotationService.matches(classCursor, lombokLogAnnotationMatcher)) {
-                    String fieldName = loggerName == null ? "log" : loggerName;
-                    J.Identifier logField = new J.Identifier(Tree.randomId(), Space.SINGLE_SPACE, Markers.EMPTY, emptyList(), fieldName, null, null);
-                    print = replaceMethodInvocation(printCursor, ctx, print, logField);
-                } else if (addLogger != null && addLogger) {
+                J.Identifier logger = classLoggers.find(classCursor, service(AnnotationService.class));
+                if (logger != null) {
+                    print = replaceMethodInvocation(printCursor, ctx, print, logger);
+                } else if (addLogger != null && addLogger && classLoggers.requestLogger(classCursor)) {
                     doAfterVisit(AddLogger.addLogger(classCursor.getValue(), framework, loggerName == null ? "logger" : loggerName, ctx));
                 }
                 return print;
@@ -112,15 +105,7 @@ public class SystemOutToLogging extends Recipe {
                         computedLoggerName,
                         print.getArguments().get(0));
 
-                String methodPattern;
-                if (framework == LoggingFramework.SYSTEM) {
-                    methodPattern = framework.getLoggerType() + " log(..)";
-                } else {
-                    methodPattern = framework.getLoggerType() + " " + getLevel() + "(..)";
-                }
-                print = (J.MethodInvocation) new ParameterizedLogging(methodPattern, false)
-                        .getVisitor()
-                        .visitNonNull(print, ctx, printCursor);
+                print = (J.MethodInvocation) parameterizedLogging.visitNonNull(print, ctx, printCursor);
 
                 if (framework == LoggingFramework.JUL) {
                     maybeAddImport("java.util.logging.Level");
@@ -135,37 +120,21 @@ public class SystemOutToLogging extends Recipe {
 
             private JavaTemplate getInfoTemplate(ExecutionContext ctx) {
                 String levelOrDefault = getLevel();
+                JavaTemplateCache templates = JavaTemplateCache.get(ctx);
                 switch (framework) {
                     case SLF4J:
-                        return JavaTemplate
-                                .builder("#{any(org.slf4j.Logger)}." + levelOrDefault + "(#{any(String)})")
-                                .javaParser(JavaParser.fromJavaVersion()
-                                        .classpathFromResources(ctx, "slf4j-api-2"))
-                                .build();
+                        return templates.template("#{any(org.slf4j.Logger)}." + levelOrDefault + "(#{any(String)})", "slf4j-api-2");
                     case Log4J1:
-                        return JavaTemplate
-                                .builder("#{any(org.apache.log4j.Category)}." + levelOrDefault + "(#{any(String)})")
-                                .javaParser(JavaParser.fromJavaVersion()
-                                        .classpathFromResources(ctx, "log4j-1.2.+"))
-                                .build();
-
+                        return templates.template("#{any(org.apache.log4j.Category)}." + levelOrDefault + "(#{any(String)})", "log4j-1.2.+");
                     case Log4J2:
-                        return JavaTemplate
-                                .builder("#{any(org.apache.logging.log4j.Logger)}." + levelOrDefault + "(#{any(String)})")
-                                .javaParser(JavaParser.fromJavaVersion()
-                                        .classpathFromResources(ctx, "log4j-api-2.+"))
-                                .build();
+                        return templates.template("#{any(org.apache.logging.log4j.Logger)}." + levelOrDefault + "(#{any(String)})", "log4j-api-2.+");
                     case SYSTEM:
-                        return JavaTemplate
-                                .builder("#{any(java.lang.System.Logger)}.log(Level." + levelOrDefault.toUpperCase() + ", #{any(String)})")
-                                .imports("java.lang.System.Logger.Level")
-                                .build();
+                        return templates.template("#{any(java.lang.System.Logger)}.log(Level." + levelOrDefault.toUpperCase() + ", #{any(String)})", null,
+                                "java.lang.System.Logger.Level");
                     case JUL:
                     default:
-                        return JavaTemplate
-                                .builder("#{any(java.util.logging.Logger)}.log(Level." + levelOrDefault + ", #{any(String)})")
-                                .imports("java.util.logging.Level")
-                                .build();
+                        return templates.template("#{any(java.util.logging.Logger)}.log(Level." + levelOrDefault + ", #{any(String)})", null,
+                                "java.util.logging.Level");
                 }
             }
 
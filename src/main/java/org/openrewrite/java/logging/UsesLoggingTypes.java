@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.marker.SearchResult;
+
+import java.util.List;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UsesLoggingTypes extends Recipe {
+    @Option(displayName = "Type patterns",
+            description = "Types whose use makes a Java source file a candidate, as a fully qualified name, " +
+                    "`com.example.*` for the types of a package or `com.example..*` for those of its subpackages too.",
+            example = "org.apache.log4j..*")
+    List<String> typePatterns;
+
+    String displayName = "Find Java sources using logging types";
+
+    String description = "Marks Java source files that use any of the given types, or a subtype of them, and every source " +
+            "file that is not a Java compilation unit, such as build files and configuration. Used as a precondition, " +
+            "it lets a migration skip Java sources that do not use the framework being migrated while its build file " +
+            "changes still run as before.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof SourceFile)) {
+                    return tree;
+                }
+                if (tree instanceof J.CompilationUnit) {
+                    LoggingUsageIndex index = LoggingUsageIndex.get((J.CompilationUnit) tree, ctx);
+                    for (String typePattern : typePatterns) {
+                        if (index.usesTypeMatching(typePattern)) {
+                            return SearchResult.found(tree);
+                        }
+                    }
+                    return tree;
+                }
+                return SearchResult.found(tree);
+            }
+        };
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import lombok.EqualsAndHashCode;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Validated;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * The cost of evaluating the arguments of a log statement, and the cost from which it is worth deferring that
+ * evaluation until the log level is known to be enabled.
+ * <p>
+ * Literals, variables, field accesses, getters invoked on a variable or {@code this}, record component accessors,
+ * {@code Throwable.getMessage()}, Log4j's {@code Unbox.box(..)} and boolean expressions of those cost nothing. When the getters of the repository
+ * have been {@link #withTrivialGetters analyzed}, getters declared in it are free only when they are trivial.
+ * Invoking a method costs the weight configured for the first method pattern it matches, or {@value #DEFAULT_COST}
+ * when none does, plus the cost of its target and arguments. Anything else, such as object creation and string
+ * concatenation, costs {@value #DEFAULT_COST} plus the cost of its operands. With no method costs and the default
+ * threshold, any argument that is not free is expensive.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class ArgumentCostModel {
+    public static final int DEFAULT_COST = 1;
+
+    /**
+     * The description of the {@code methodCosts} option of the recipes that build their cost model with {@link #of}.
+     */
+    public static final String METHOD_COSTS_DESCRIPTION = "Methods with the cost of invoking them, as a method pattern " +
+            "followed by `=` and a whole number. An argument costs the sum of the methods it invokes; methods without " +
+            "a cost cost 1, except for simple getters, which are free, as are literals, variables and field accesses.";
+
+    /**
+     * The description of the {@code costThreshold} option of the recipes that defer arguments from a cost.
+     */
+    public static final String COST_THRESHOLD_DESCRIPTION = "The cost from which an argument is deferred until the " +
+            "log level is known to be enabled. Defaults to 1, which defers any argument that is not free to evaluate.";
+
+    public static final ArgumentCostModel DEFAULT = new ArgumentCostModel(emptyList(), emptyList(), new int[0], DEFAULT_COST, null);
+
+    private static final MethodMatcher GET_MESSAGE = new MethodMatcher("java.lang.Throwable getMessage()");
+    private static final MethodMatcher UNBOX = new MethodMatcher("org.apache.logging.log4j.util.Unbox box(..)");
+
+    @EqualsAndHashCode.Include
+    private final List<String> methodPatterns;
+
+    private final List<MethodMatcher> methods;
+
+    @EqualsAndHashCode.Include
+    private final int[] methodCosts;
+
+    @EqualsAndHashCode.Include
+    private final int threshold;
+
+    // Compared by identity, so that models with the same costs judge getters alike only when they share the analysis
+    @EqualsAndHashCode.Include
+    private final @Nullable TrivialGetters trivialGetters;
+
+    private ArgumentCostModel(List<String> methodPatterns, List<MethodMatcher> methods, int[] methodCosts, int threshold,
+                              @Nullable TrivialGetters trivialGetters) {
+        this.methodPatterns = methodPatterns;
+        this.methods = methods;
+        this.methodCosts = methodCosts;
+        this.threshold = threshold;
+        this.trivialGetters = trivialGetters;
+    }
+
+    /**
+     * @param methodCosts method patterns with the cost of invoking a matching method, as {@code pattern=cost}, such as
+     *                    {@code java.util.Arrays toString(..)=10}
+     * @param threshold   the cost from which an argument is expensive, {@value #DEFAULT_COST} when {@code null}
+     * @throws IllegalArgumentException when a method cost is not of the form {@code pattern=cost} with a valid method
+     *                                  pattern and an integer cost, or when the threshold is below 1
+     * @see #validate(List, Integer)
+     */
+    public static ArgumentCostModel of(@Nullable List<String> methodCosts, @Nullable Integer threshold) {
+        if (threshold != null && threshold < 1) {
+            throw new IllegalArgumentException("Expected a cost threshold of at least 1, but got " + threshold);
+        }
+        if ((methodCosts == null || methodCosts.isEmpty()) && (threshold == null || threshold == DEFAULT_COST)) {
+            return DEFAULT;
+        }
+        List<String> patterns = new ArrayList<>();
+        List<MethodMatcher> methods = new ArrayList<>();
+        int[] costs = new int[methodCosts == null ? 0 : methodCosts.size()];
+        if (methodCosts != null) {
+            for (String methodCost : methodCosts) {
+                int separator = methodCost.lastIndexOf('=');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Expected a method cost of the form `pattern=cost`, but got `" + methodCost + "`");
+                }
+                try {
+                    costs[methods.size()] = Integer.parseInt(methodCost.substring(separator + 1).trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Expected an integer cost in `" + methodCost + "`", e);
+                }
+                String pattern = methodCost.substring(0, separator).trim();
+                try {
+                    methods.add(new MethodMatcher(pattern, true));
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Expected a valid method pattern in `" + methodCost + "`", e);
+                }
+                patterns.add(pattern);
+            }
+        }
+        return new ArgumentCostModel(patterns, methods, costs, threshold == null ? DEFAULT_COST : threshold, null);
+    }
+
+    /**
+     * Validates the options of a recipe that builds its cost model with {@link #of}, so that a malformed method cost
+     * or threshold is reported before the recipe runs rather than failing its visitor.
+     *
+     * @param methodCosts the method costs, validated as the {@code methodCosts} option
+     * @param threshold   the cost threshold, validated as the {@code costThreshold} option
+     */
+    public static Validated<Object> validate(@Nullable List<String> methodCosts, @Nullable Integer threshold) {
+        Validated<Object> validated = Validated.none();
+        if (threshold != null && threshold < 1) {
+            validated = validated.and(Validated.invalid("costThreshold", threshold, "must be at least 1"));
+        }
+        if (methodCosts != null) {
+            for (String methodCost : methodCosts) {
+                try {
+                    of(singletonList(methodCost), null);
+                } catch (IllegalArgumentException e) {
+                    validated = validated.and(Validated.invalid("methodCosts", methodCost, e.getMessage()));
+                }
+            }
+        }
+        return validated;
+    }
+
+    /**
+     * @return this cost model, judging getters declared in the repository by what their body does rather than by
+     * their name: trivial ones are free on any target, others cost as much as any other method
+     */
+    public ArgumentCostModel withTrivialGetters(TrivialGetters trivialGetters) {
+        return new ArgumentCostModel(methodPatterns, methods, methodCosts, threshold, trivialGetters);
+    }
+
+    public boolean isExpensive(Expression argument) {
+        return cost(argument) >= threshold;
+    }
+
+    public int cost(Expression expression) {
+        if (expression instanceof J.Parentheses) {
+            J tree = ((J.Parentheses<?>) expression).getTree();
+            return tree instanceof Expression ? cost((Expression) tree) : DEFAULT_COST;
+        }
+        if (expression instanceof J.Literal || expression instanceof J.Identifier || expression instanceof J.FieldAccess) {
+            return 0;
+        }
+        if (expression instanceof J.MethodInvocation) {
+            return methodCost((J.MethodInvocation) expression);
+        }
+        if (expression instanceof J.Binary) {
+            J.Binary binary = (J.Binary) expression;
+            return isOnlyLiterals(binary) ? 0 : DEFAULT_COST + cost(binary.getLeft()) + cost(binary.getRight());
+        }
+        if (expression instanceof J.NewClass && ((J.NewClass) expression).getBody() == null) {
+            return DEFAULT_COST + sum(((J.NewClass) expression).getArguments());
+        }
+        return DEFAULT_COST;
+    }
+
+    private int methodCost(J.MethodInvocation method) {
+        int targetAndArguments = (method.getSelect() == null ? 0 : cost(method.getSelect())) + sum(method.getArguments());
+        for (int i = 0; i < methods.size(); i++) {
+            if (methods.get(i).matches(method)) {
+                return methodCosts[i] + targetAndArguments;
+            }
+        }
+        Boolean trivial = trivialGetters == null ? null : trivialGetters.isTrivial(method.getMethodType());
+        if (trivial != null) {
+            if (trivial) {
+                return targetAndArguments;
+            }
+        } else if (isSimpleGetter(method)) {
+            return 0;
+        }
+        if (GET_MESSAGE.matches(method) || UNBOX.matches(method)) {
+            return targetAndArguments;
+        }
+        return DEFAULT_COST + targetAndArguments;
+    }
+
+    private int sum(List<Expression> expressions) {
+        int sum = 0;
+        for (Expression expression : expressions) {
+            if (!(expression instanceof J.Empty)) {
+                sum += cost(expression);
+            }
+        }
+        return sum;
+    }
+
+    private static boolean isSimpleGetter(J.MethodInvocation mi) {
+        if (mi.getMethodType() == null ||
+                !mi.getMethodType().getParameterNames().isEmpty() ||
+                mi.getMethodType().hasFlags(Flag.Static) ||
+                !(mi.getSelect() == null || mi.getSelect() instanceof J.Identifier)) {
+            return false;
+        }
+        // Consider it a simple getter if it follows getter naming convention
+        if ((mi.getSimpleName().startsWith("get") && mi.getSimpleName().length() > 3) ||
+                (mi.getSimpleName().startsWith("is") && mi.getSimpleName().length() > 2)) {
+            return true;
+        }
+        // Also consider record component accessors as simple getters
+        return mi.getMethodType().getDeclaringType().getKind() == JavaType.FullyQualified.Kind.Record;
+    }
+
+    private static boolean isOnlyLiterals(J.Binary binary) {
+        return isLiteralOrBinary(binary.getLeft()) && isLiteralOrBinary(binary.getRight());
+    }
+
+    private static boolean isLiteralOrBinary(J expression) {
+        return expression instanceof J.Literal ||
+                isSimpleBooleanGetter(expression) ||
+                isBooleanIdentifier(expression) ||
+                expression instanceof J.Binary && isOnlyLiterals((J.Binary) expression);
+    }
+
+    private static boolean isSimpleBooleanGetter(J expression) {
+        if (expression instanceof J.MethodInvocation) {
+            J.MethodInvocation mi = (J.MethodInvocation) expression;
+            return isSimpleGetter(mi) && mi.getMethodType() != null && isTypeBoolean(mi.getMethodType().getReturnType());
+        }
+        return false;
+    }
+
+    private static boolean isBooleanIdentifier(J expression) {
+        return expression instanceof J.Identifier && isTypeBoolean(((J.Identifier) expression).getType());
+    }
+
+    private static boolean isTypeBoolean(@Nullable JavaType type) {
+        return type == JavaType.Primitive.Boolean || TypeUtils.isAssignableTo("java.lang.Boolean", type);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.AnnotationMatcher;
+import org.openrewrite.java.logging.LoggingFramework;
+import org.openrewrite.java.search.FindFieldsOfType;
+import org.openrewrite.java.service.AnnotationService;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.Space;
+import org.openrewrite.marker.Markers;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static org.openrewrite.Tree.randomId;
+
+/**
+ * The logger each class of a source file logs through, resolved once per class declaration rather than once per
+ * call site: a field of the framework's logger type, a Lombok logging annotation, or neither, in which case a
+ * logger is requested from {@code AddLogger} at most once per class. Resolutions are kept for as long as the
+ * visitor stays in the same source file, which is replaced by a new instance whenever a visit changes it.
+ */
+public final class ClassLoggers {
+    private static final AnnotationMatcher LOMBOK_LOG = new AnnotationMatcher("@lombok.extern..*");
+
+    private final LoggingFramework framework;
+    private final String lombokLoggerName;
+    private final Map<J.ClassDeclaration, Resolution> resolutions = new IdentityHashMap<>();
+
+    private @Nullable JavaSourceFile sourceFile;
+
+    /**
+     * @param framework        the framework whose logger type fields are looked for
+     * @param lombokLoggerName the name of the field a Lombok logging annotation generates
+     */
+    public ClassLoggers(LoggingFramework framework, String lombokLoggerName) {
+        this.framework = framework;
+        this.lombokLoggerName = lombokLoggerName;
+    }
+
+    /**
+     * @param classCursor       a cursor pointing at the class declaration enclosing the call site
+     * @param annotationService the annotation service of the visitor, used to look for Lombok logging annotations
+     * @return the logger to log through, or {@code null} when the class has none
+     */
+    public J.@Nullable Identifier find(Cursor classCursor, AnnotationService annotationService) {
+        Resolution resolution = resolve(classCursor, annotationService);
+        if (resolution.field != null) {
+            return resolution.field;
+        }
+        if (resolution.lombok) {
+            return new J.Identifier(randomId(), Space.SINGLE_SPACE, Markers.EMPTY, emptyList(), lombokLoggerName, null, null);
+        }
+        return null;
+    }
+
+    /**
+     * @param classCursor a cursor pointing at a class declaration {@link #find} found no logger for
+     * @return {@code true} the first time it is called for the class, when a logger should be added to it
+     */
+    public boolean requestLogger(Cursor classCursor) {
+        Resolution resolution = resolutions.get(classCursor.<J.ClassDeclaration>getValue());
+        if (resolution == null || resolution.loggerRequested) {
+            return false;
+        }
+        resolution.loggerRequested = true;
+        return true;
+    }
+
+    private Resolution resolve(Cursor classCursor, AnnotationService annotationService) {
+        JavaSourceFile enclosingSourceFile = classCursor.firstEnclosing(JavaSourceFile.class);
+        if (enclosingSourceFile != sourceFile) {
+            resolutions.clear();
+            sourceFile = enclosingSourceFile;
+        }
+        J.ClassDeclaration classDecl = classCursor.getValue();
+        Resolution resolution = resolutions.get(classDecl);
+        if (resolution == null) {
+            Set<J.VariableDeclarations> loggers = FindFieldsOfType.find(classDecl, framework.getLoggerType());
+            resolution = loggers.isEmpty() ?
+                    new Resolution(null, annotationService.matches(classCursor, LOMBOK_LOG)) :
+                    new Resolution(loggers.iterator().next().getVariables().get(0).getName(), false);
+            resolutions.put(classDecl, resolution);
+        }
+        return resolution;
+    }
+
+    private static class Resolution {
+        final J.@Nullable Identifier field;
+        final boolean lombok;
+        boolean loggerRequested;
+
+        Resolution(J.@Nullable Identifier field, boolean lombok) {
+            this.field = field;
+            this.lombok = lombok;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import java.util.Arrays;
+
+/**
+ * The placeholders of a {@code String.format}, {@code MessageFormat} or SLF4J message, found in a single pass over the
+ * message. Text between placeholders is not stored; each placeholder is kept as a few {@code int}s in one array, so
+ * asking about the message does not allocate.
+ */
+public final class FormatTokens {
+
+    /**
+     * An SLF4J {@code {}} placeholder.
+     */
+    public static final int PLACEHOLDER = 1;
+
+    /**
+     * A {@code String.format} specifier such as {@code %s} or {@code %-10.2f}.
+     */
+    public static final int SPECIFIER = 2;
+
+    /**
+     * A simple {@code MessageFormat} argument such as {@code {0}}.
+     */
+    public static final int ARGUMENT = 3;
+
+    /**
+     * A specifier or argument that cannot be expressed as an SLF4J placeholder, such as a malformed specifier or a
+     * {@code MessageFormat} argument with a format type like {@code {0,number}}.
+     */
+    public static final int UNSUPPORTED = 4;
+
+    private static final int INDEXED = 1 << 16;
+    private static final int FLAGS_OR_WIDTH = 1 << 17;
+    private static final int PRECISION = 1 << 18;
+    private static final int DATE_TIME = 1 << 19;
+    private static final int CONVERSION_MASK = 0xFFFF;
+
+    // kind, start, end and detail; the detail is the conversion and its flags for a specifier, the index for an argument
+    private static final int STRIDE = 4;
+
+    private final String format;
+    private int[] tokens = new int[STRIDE * 4];
+    private int size;
+
+    private FormatTokens(String format) {
+        this.format = format;
+    }
+
+    /**
+     * Tokenizes a {@code String.format} message. SLF4J {@code {}} placeholders in it are reported as well.
+     */
+    public static FormatTokens printf(String format) {
+        FormatTokens t = new FormatTokens(format);
+        int length = format.length();
+        for (int i = 0; i < length; i++) {
+            char c = format.charAt(i);
+            if (c == '{' && i + 1 < length && format.charAt(i + 1) == '}') {
+                t.add(PLACEHOLDER, i, i + 2, 0);
+                i++;
+            } else if (c == '%') {
+                i = t.addSpecifier(i) - 1;
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Tokenizes a {@code MessageFormat} pattern.
+     */
+    public static FormatTokens messageFormat(String pattern) {
+        FormatTokens t = new FormatTokens(pattern);
+        int length = pattern.length();
+        for (int i = 0; i < length; i++) {
+            if (pattern.charAt(i) != '{') {
+                continue;
+            }
+            int j = i + 1;
+            long index = 0;
+            while (j < length && isDigit(pattern.charAt(j))) {
+                index = Math.min(index * 10 + pattern.charAt(j) - '0', Integer.MAX_VALUE + 1L);
+                j++;
+            }
+            if (j == i + 1 || j == length) {
+                continue;
+            }
+            if (pattern.charAt(j) == '}') {
+                if (index > Integer.MAX_VALUE) {
+                    t.add(UNSUPPORTED, i, j + 1, 0);
+                } else {
+                    t.add(ARGUMENT, i, j + 1, (int) index);
+                }
+                i = j;
+            } else if (pattern.charAt(j) == ',') {
+                int close = pattern.indexOf('}', j + 1);
+                if (close > j + 1) {
+                    t.add(UNSUPPORTED, i, close + 1, 0);
+                }
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Tokenizes an SLF4J message.
+     */
+    public static FormatTokens slf4j(String message) {
+        FormatTokens t = new FormatTokens(message);
+        for (int i = message.indexOf("{}"); i >= 0; i = message.indexOf("{}", i + 2)) {
+            t.add(PLACEHOLDER, i, i + 2, 0);
+        }
+        return t;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int kind(int token) {
+        return tokens[token * STRIDE];
+    }
+
+    public int start(int token) {
+        return tokens[token * STRIDE + 1];
+    }
+
+    public int end(int token) {
+        return tokens[token * STRIDE + 2];
+    }
+
+    /**
+     * @return the conversion character of a {@link #SPECIFIER}, e.g. {@code s} for {@code %-10s}
+     */
+    public char conversion(int token) {
+        return (char) (tokens[token * STRIDE + 3] & CONVERSION_MASK);
+    }
+
+    /**
+     * @return {@code true} when a {@link #SPECIFIER} has no argument index, flags, width, precision or date/time prefix
+     */
+    public boolean isSimple(int token) {
+        return (tokens[token * STRIDE + 3] & ~CONVERSION_MASK) == 0;
+    }
+
+    /**
+     * @return {@code true} when a {@link #SPECIFIER} refers to its argument explicitly, as in {@code %2$s} or {@code %<s}
+     */
+    public boolean isIndexed(int token) {
+        return (tokens[token * STRIDE + 3] & INDEXED) != 0;
+    }
+
+    /**
+     * @return the argument index of an {@link #ARGUMENT}, e.g. {@code 1} for {@code {1}}
+     */
+    public int argumentIndex(int token) {
+        return tokens[token * STRIDE + 3];
+    }
+
+    public int count(int kind) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (kind(i) == kind) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean contains(int kind) {
+        for (int i = 0; i < size; i++) {
+            if (kind(i) == kind) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} when every {@link #SPECIFIER} is simple and its conversion is one of {@code conversions}
+     */
+    public boolean hasOnlySimpleSpecifiers(String conversions) {
+        for (int i = 0; i < size; i++) {
+            if (kind(i) == SPECIFIER && (!isSimple(i) || conversions.indexOf(conversion(i)) < 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the message with every {@link #SPECIFIER} and {@link #ARGUMENT} replaced by an SLF4J {@code {}} placeholder
+     */
+    public String toSlf4jTemplate() {
+        StringBuilder sb = null;
+        int last = 0;
+        for (int i = 0; i < size; i++) {
+            if (kind(i) == SPECIFIER || kind(i) == ARGUMENT) {
+                if (sb == null) {
+                    sb = new StringBuilder(format.length());
+                }
+                sb.append(format, last, start(i)).append("{}");
+                last = end(i);
+            }
+        }
+        return sb == null ? format : sb.append(format, last, format.length()).toString();
+    }
+
+    /**
+     * Reads a specifier following the syntax of {@link java.util.Formatter}:
+     * {@code %[argument_index$][flags][width][.precision][t]conversion}.
+     *
+     * @return the index just past the specifier
+     */
+    private int addSpecifier(int start) {
+        int length = format.length();
+        int detail = 0;
+        int i = start + 1;
+
+        int digits = skipDigits(i);
+        if (digits > i && digits < length && format.charAt(digits) == '$') {
+            detail |= INDEXED;
+            i = digits + 1;
+        }
+        for (; i < length && "-#+ 0,(<".indexOf(format.charAt(i)) >= 0; i++) {
+            detail |= format.charAt(i) == '<' ? INDEXED : FLAGS_OR_WIDTH;
+        }
+        digits = skipDigits(i);
+        if (digits > i) {
+            detail |= FLAGS_OR_WIDTH;
+            i = digits;
+        }
+        if (i < length && format.charAt(i) == '.') {
+            digits = skipDigits(i + 1);
+            if (digits == i + 1) {
+                add(UNSUPPORTED, start, i + 1, 0);
+                return i + 1;
+            }
+            detail |= PRECISION;
+            i = digits;
+        }
+        if (i < length && (format.charAt(i) == 't' || format.charAt(i) == 'T')) {
+            detail |= DATE_TIME;
+            i++;
+        }
+        if (i < length && (Character.isLetter(format.charAt(i)) || format.charAt(i) == '%')) {
+            add(SPECIFIER, start, i + 1, detail | format.charAt(i));
+            return i + 1;
+        }
+        add(UNSUPPORTED, start, i, 0);
+        return i;
+    }
+
+    private int skipDigits(int from) {
+        int i = from;
+        while (i < format.length() && isDigit(format.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private void add(int kind, int start, int end, int detail) {
+        int offset = size * STRIDE;
+        if (offset == tokens.length) {
+            tokens = Arrays.copyOf(tokens, tokens.length * 2);
+        }
+        tokens[offset] = kind;
+        tokens[offset + 1] = start;
+        tokens[offset + 2] = end;
+        tokens[offset + 3] = detail;
+        size++;
+    }
+}
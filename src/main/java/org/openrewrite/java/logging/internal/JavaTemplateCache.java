@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least recently used cache of {@link JavaTemplate}s that lives for the duration of a recipe run. The cache
+ * builds the templates itself, so every template is keyed by exactly what it is built from: its code, its imports, the
+ * artifacts on the classpath of its parser and whether it is context sensitive. Each distinct template and its
+ * classpath-backed parser is then only built once per run rather than once per call site.
+ */
+public final class JavaTemplateCache {
+    private static final String KEY = JavaTemplateCache.class.getName();
+    private static final int MAXIMUM_SIZE = 64;
+
+    private final Map<String, JavaTemplate> templates = new LinkedHashMap<String, JavaTemplate>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JavaTemplate> eldest) {
+            return size() > MAXIMUM_SIZE;
+        }
+    };
+
+    private final ExecutionContext ctx;
+    private long hits;
+    private long misses;
+
+    private JavaTemplateCache(ExecutionContext ctx) {
+        this.ctx = ctx;
+    }
+
+    public static JavaTemplateCache get(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(KEY, k -> new JavaTemplateCache(ctx));
+    }
+
+    /**
+     * @param code      the template code
+     * @param classpath the artifact the template parser needs, as passed to {@code classpathFromResources}, or
+     *                  {@code null} when the JDK suffices
+     * @param imports   the types the code refers to by their simple name
+     * @return the cached template, or the newly built one
+     */
+    public JavaTemplate template(String code, @Nullable String classpath, String... imports) {
+        return computeIfAbsent(code, classpath, imports, false);
+    }
+
+    /**
+     * Like {@link #template(String, String, String...)}, for a template that is
+     * {@link JavaTemplate.Builder#contextSensitive() context sensitive}.
+     */
+    public JavaTemplate contextSensitiveTemplate(String code, @Nullable String classpath, String... imports) {
+        return computeIfAbsent(code, classpath, imports, true);
+    }
+
+    private synchronized JavaTemplate computeIfAbsent(String code, @Nullable String classpath, String[] imports, boolean contextSensitive) {
+        String key = code + '\u0000' + classpath + '\u0000' + String.join(",", imports) + '\u0000' + contextSensitive;
+        JavaTemplate cached = templates.get(key);
+        if (cached != null) {
+            hits++;
+            return cached;
+        }
+        misses++;
+        JavaTemplate.Builder builder = JavaTemplate.builder(code).imports(imports);
+        if (contextSensitive) {
+            builder.contextSensitive();
+        }
+        if (classpath != null) {
+            builder.javaParser(ParserClasspath.fromResources(ctx, classpath));
+        }
+        JavaTemplate built = builder.build();
+        templates.put(key, built);
+        return built;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized int size() {
+        return templates.size();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Decides whether an expression can be moved into the body of a lambda, which may only read local variables that are
+ * effectively final. Any assignment to a local variable of the same name in the enclosing method is taken to mean it
+ * is not, which errs on the side of leaving the expression where it is.
+ */
+public final class LambdaCaptures {
+
+    private LambdaCaptures() {
+    }
+
+    /**
+     * @param expression the expression to move into a lambda
+     * @param cursor     a cursor pointing at the expression or the statement containing it
+     * @return whether every local variable the expression reads is effectively final
+     */
+    public static boolean canCapture(Expression expression, Cursor cursor) {
+        Set<String> locals = new HashSet<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Set<String> names) {
+                JavaType.Variable variable = identifier.getFieldType();
+                if (variable != null && variable.getOwner() instanceof JavaType.Method) {
+                    names.add(identifier.getSimpleName());
+                }
+                return identifier;
+            }
+        }.visit(expression, locals);
+        if (locals.isEmpty()) {
+            return true;
+        }
+
+        J scope = null;
+        for (Cursor c = cursor; c != null && scope == null; c = c.getParent()) {
+            if (c.getValue() instanceof J.MethodDeclaration || c.getValue() instanceof J.ClassDeclaration) {
+                scope = c.getValue();
+            }
+        }
+        if (scope == null) {
+            return false;
+        }
+        AtomicBoolean reassigned = new AtomicBoolean();
+        new JavaIsoVisitor<AtomicBoolean>() {
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, AtomicBoolean found) {
+                check(assignment.getVariable(), found);
+                return super.visitAssignment(assignment, found);
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, AtomicBoolean found) {
+                check(assignOp.getVariable(), found);
+                return super.visitAssignmentOperation(assignOp, found);
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, AtomicBoolean found) {
+                if (unary.getOperator().isModifying()) {
+                    check(unary.getExpression(), found);
+                }
+                return super.visitUnary(unary, found);
+            }
+
+            private void check(Expression variable, AtomicBoolean found) {
+                if (variable instanceof J.Identifier && locals.contains(((J.Identifier) variable).getSimpleName())) {
+                    found.set(true);
+                }
+            }
+        }.visit(scope, reassigned);
+        return !reassigned.get();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * When an SLF4J log statement is worth guarding with a log level check, shared by the recipes that add, remove and
+ * adjust such guards, with the cost of arguments judged by an {@link ArgumentCostModel}. Because
+ * {@code WrapExpensiveLogStatementsInConditionals} only guards statements that {@link #needsGuard} and
+ * {@code RemoveUnnecessaryLogLevelGuards} only removes guards none of whose statements do, by the same cost model
+ * aware of the {@link TrivialGetters trivial getters} in the repository, neither undoes the other,
+ * and the composites using both reach a fixed point in a single cycle.
+ */
+public final class LogGuardPolicy {
+    private static final Set<String> LOG_METHODS = new HashSet<>(Arrays.asList("trace", "debug", "info", "warn", "error"));
+    private static final MethodMatcher IS_ENABLED = new MethodMatcher("org.slf4j.Logger is*Enabled(..)");
+
+    private LogGuardPolicy() {
+    }
+
+    /**
+     * @return whether the statement is an {@code if} without {@code else} whose condition is a log level check
+     */
+    public static boolean isGuard(Statement statement) {
+        if (!(statement instanceof J.If)) {
+            return false;
+        }
+        J.If if_ = (J.If) statement;
+        return if_.getElsePart() == null && IS_ENABLED.matches(if_.getIfCondition().getTree());
+    }
+
+    /**
+     * @return whether the guard only contains log statements, none of which {@link #needsGuard need} it by the given
+     * cost model
+     */
+    public static boolean isUnnecessaryGuard(J.If guard, ArgumentCostModel costModel) {
+        if (!isGuard(guard)) {
+            return false;
+        }
+        for (Statement statement : thenStatements(guard)) {
+            if (!(statement instanceof J.MethodInvocation) ||
+                    !isLogStatement((J.MethodInvocation) statement) ||
+                    // A statement that was guarded and has not changed since still needs its guard
+                    OptimizedLogStatement.isGuarded(statement) ||
+                    needsGuard((J.MethodInvocation) statement, costModel)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static List<Statement> thenStatements(J.If if_) {
+        Statement thenPart = if_.getThenPart();
+        return thenPart instanceof J.Block ? ((J.Block) thenPart).getStatements() : singletonList(thenPart);
+    }
+
+    /**
+     * @return whether evaluating any of the arguments of the log statement is expensive by the
+     * {@link ArgumentCostModel#DEFAULT default cost model}
+     */
+    public static boolean needsGuard(J.MethodInvocation logStatement) {
+        return needsGuard(logStatement, ArgumentCostModel.DEFAULT);
+    }
+
+    /**
+     * @return whether evaluating any of the arguments of the log statement is costly enough to only do it when the
+     * log level is enabled
+     */
+    public static boolean needsGuard(J.MethodInvocation logStatement, ArgumentCostModel costModel) {
+        for (Expression argument : logStatement.getArguments()) {
+            if (costModel.isExpensive(argument)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether invoking the log statement allocates for its arguments even when the log level is disabled, by
+     * boxing a primitive or collecting the arguments in a varargs array
+     */
+    public static boolean allocatesArguments(J.MethodInvocation logStatement) {
+        List<Expression> arguments = logStatement.getArguments();
+        for (Expression argument : arguments) {
+            if (isBoxed(argument)) {
+                return true;
+            }
+        }
+        JavaType.Method methodType = logStatement.getMethodType();
+        if (methodType == null || !methodType.hasFlags(Flag.Varargs)) {
+            return false;
+        }
+        // An array passed as is to the varargs parameter is not allocated by the call
+        return arguments.size() != methodType.getParameterTypes().size() ||
+                !(arguments.get(arguments.size() - 1).getType() instanceof JavaType.Array);
+    }
+
+    /**
+     * @return whether the argument is a primitive that is boxed into a new object when passed as an {@code Object};
+     * {@code boolean} and {@code byte} are not, as {@code Boolean.valueOf} and {@code Byte.valueOf} return cached
+     * instances for every value
+     */
+    public static boolean isBoxed(Expression argument) {
+        JavaType type = argument.getType();
+        return type instanceof JavaType.Primitive &&
+                type != JavaType.Primitive.Boolean &&
+                type != JavaType.Primitive.Byte &&
+                type != JavaType.Primitive.String &&
+                type != JavaType.Primitive.Null &&
+                type != JavaType.Primitive.None &&
+                type != JavaType.Primitive.Void;
+    }
+
+    private static boolean isLogStatement(J.MethodInvocation method) {
+        return LOG_METHODS.contains(method.getSimpleName()) &&
+                method.getSelect() != null &&
+                TypeUtils.isOfClassType(method.getSelect().getType(), "org.slf4j.Logger");
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.search.SemanticallyEqual;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.Tree.randomId;
+
+/**
+ * Builds and inspects the trees shared by the recipes that defer the work of log statements until their log level is
+ * known to be enabled, whether by passing a {@code Supplier}, using a fluent API or adding a level check.
+ */
+public final class LogStatements {
+
+    private LogStatements() {
+    }
+
+    /**
+     * @return {@code select.method(args)}, attributed with the given method type
+     */
+    public static J.MethodInvocation invoke(Expression select, JavaType.Method methodType, List<Expression> args) {
+        List<JRightPadded<Expression>> arguments = new ArrayList<>(Math.max(1, args.size()));
+        if (args.isEmpty()) {
+            arguments.add(JRightPadded.build(new J.Empty(randomId(), Space.EMPTY, Markers.EMPTY)));
+        }
+        for (Expression arg : args) {
+            arguments.add(JRightPadded.build(arg));
+        }
+        return new J.MethodInvocation(randomId(), Space.EMPTY, Markers.EMPTY, JRightPadded.build(select.withPrefix(Space.EMPTY)), null,
+                new J.Identifier(randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), methodType.getName(), methodType, null),
+                JContainer.build(arguments), methodType);
+    }
+
+    /**
+     * @return {@code () -> body} in place of the body, typed as the {@code Supplier} it is passed as
+     */
+    public static J.Lambda supplier(Expression body, JavaType supplierType) {
+        return new J.Lambda(randomId(), body.getPrefix(), Markers.EMPTY,
+                new J.Lambda.Parameters(randomId(), Space.EMPTY, Markers.EMPTY, true,
+                        singletonList(JRightPadded.build(new J.Empty(randomId(), Space.EMPTY, Markers.EMPTY)))),
+                Space.SINGLE_SPACE, body.withPrefix(Space.SINGLE_SPACE), supplierType);
+    }
+
+    /**
+     * @param cursor    a cursor pointing at the log statement
+     * @param statement the log statement
+     * @return whether the statement is in the then-part of an enclosing {@code if} of the same method that checks the
+     * level the statement logs at on the same logger, such as {@code logger.isDebugEnabled()} for
+     * {@code logger.debug(..)} or {@code logger.isLoggable(Level.FINE)} for {@code logger.fine(..)}
+     */
+    public static boolean isGuarded(Cursor cursor, J.MethodInvocation statement) {
+        if (statement.getSelect() == null) {
+            return false;
+        }
+        Object child = cursor.getValue();
+        for (Cursor c = cursor.getParent(); c != null; c = c.getParent()) {
+            Object value = c.getValue();
+            if (value instanceof J.MethodDeclaration || value instanceof J.Lambda || value instanceof J.ClassDeclaration) {
+                return false;
+            }
+            if (value instanceof J.If && ((J.If) value).getThenPart() == child &&
+                    isLevelCheck(((J.If) value).getIfCondition().getTree(), statement)) {
+                return true;
+            }
+            if (value instanceof J) {
+                child = value;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLevelCheck(J condition, J.MethodInvocation statement) {
+        if (!(condition instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation check = (J.MethodInvocation) condition;
+        if (check.getSelect() == null || !SemanticallyEqual.areEqual(check.getSelect(), statement.getSelect())) {
+            return false;
+        }
+        String name = check.getSimpleName();
+        // A statement named after its level, such as debugf(..) of JBoss Logging, logs at the level its name starts with
+        String statementName = statement.getSimpleName();
+        String level = statementName.endsWith("f") || statementName.endsWith("v") ?
+                statementName.substring(0, statementName.length() - 1) : statementName;
+        if (!"isLoggable".equals(name) && !"isEnabled".equals(name)) {
+            return name.equalsIgnoreCase("is" + level + "Enabled");
+        }
+        Expression checkedLevel = check.getArguments().get(0);
+        if ("log".equals(statementName)) {
+            return SemanticallyEqual.areEqual(checkedLevel, statement.getArguments().get(0));
+        }
+        return checkedLevel instanceof J.FieldAccess && level.equalsIgnoreCase(((J.FieldAccess) checkedLevel).getSimpleName()) ||
+                checkedLevel instanceof J.Identifier && level.equalsIgnoreCase(((J.Identifier) checkedLevel).getSimpleName());
+    }
+}
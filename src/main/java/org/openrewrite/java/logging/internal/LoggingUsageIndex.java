@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.logging.LoggingFramework;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The logging related types and methods a source file uses, computed once from its types in use and imports and
+ * memoized in the {@link ExecutionContext} until the source file changes or another one is looked up. Types are recorded together with their
+ * supertypes, and methods under every type in the hierarchy of their declaring type, so a lookup never misses
+ * a use that {@link org.openrewrite.java.search.UsesType} or {@link org.openrewrite.java.search.UsesMethod} would
+ * have found, including ones that match overrides or check assignability.
+ */
+public final class LoggingUsageIndex {
+    private static final String KEY = LoggingUsageIndex.class.getName();
+
+    private static final List<String> MDC_TYPES = Arrays.asList(
+            "org.slf4j.MDC",
+            "org.apache.log4j.MDC",
+            "org.apache.log4j.NDC",
+            "org.apache.logging.log4j.ThreadContext",
+            "org.jboss.logging.MDC",
+            "org.jboss.logging.NDC");
+
+    private static final List<String> CONFIGURATION_TYPES = Arrays.asList(
+            "org.apache.log4j.BasicConfigurator",
+            "org.apache.log4j.PropertyConfigurator",
+            "org.apache.log4j.xml.DOMConfigurator",
+            "org.apache.logging.log4j.core.config.Configurator",
+            "java.util.logging.LogManager",
+            "ch.qos.logback.classic.LoggerContext");
+
+    private final Set<String> types;
+    private final Map<String, Set<String>> methodNamesByType;
+    private final Set<LoggingFramework> frameworks;
+
+    private LoggingUsageIndex(Set<String> types, Map<String, Set<String>> methodNamesByType) {
+        this.types = types;
+        this.methodNamesByType = methodNamesByType;
+        this.frameworks = EnumSet.noneOf(LoggingFramework.class);
+        for (LoggingFramework framework : LoggingFramework.values()) {
+            if (types.contains(framework.getLoggerType())) {
+                frameworks.add(framework);
+            }
+        }
+    }
+
+    public static LoggingUsageIndex get(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        // Every recipe of a run visits a source file before the next file is visited, so only the index of the
+        // source file visited last is kept, which bounds the memory of the index however large the repository
+        AtomicReference<Entry> current = ctx.computeMessageIfAbsent(KEY, k -> new AtomicReference<>());
+        Entry entry = current.get();
+        if (entry == null || entry.sourceFile.get() != sourceFile) {
+            entry = new Entry(sourceFile, build(sourceFile));
+            current.set(entry);
+        }
+        return entry.index;
+    }
+
+    /**
+     * @param fullyQualifiedName a type name, with nested types separated by {@code .} or {@code $}
+     * @return whether the type or a subtype of it is used
+     */
+    public boolean usesType(String fullyQualifiedName) {
+        return types.contains(normalize(fullyQualifiedName));
+    }
+
+    /**
+     * @param declaringType      the type declaring the method, or a supertype of it
+     * @param methodNamePattern  a method name, which may contain {@code *} wildcards
+     * @return whether a method with a matching name is invoked or referenced on the type or one of its subtypes
+     */
+    public boolean usesMethod(String declaringType, String methodNamePattern) {
+        Set<String> names = methodNamesByType.get(normalize(declaringType));
+        if (names == null) {
+            return false;
+        }
+        if (methodNamePattern.indexOf('*') < 0) {
+            return names.contains(methodNamePattern);
+        }
+        for (String name : names) {
+            if (StringUtils.matchesGlob(name, methodNamePattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param typePattern a type name, {@code com.example.*} for the types of a package or {@code com.example..*} for
+     *                    the types of a package and its subpackages
+     * @return whether a type matching the pattern, or a subtype of one, is used
+     */
+    public boolean usesTypeMatching(String typePattern) {
+        if (!typePattern.endsWith(".*")) {
+            return usesType(typePattern);
+        }
+        boolean recursive = typePattern.endsWith("..*");
+        String prefix = normalize(typePattern.substring(0, typePattern.length() - (recursive ? 2 : 1)));
+        for (String type : types) {
+            if (type.startsWith(prefix) && (recursive || type.indexOf('.', prefix.length()) < 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean usesFramework(LoggingFramework framework) {
+        return frameworks.contains(framework);
+    }
+
+    public Set<LoggingFramework> getFrameworks() {
+        return Collections.unmodifiableSet(frameworks);
+    }
+
+    /**
+     * @return whether the source file uses a mapped or nested diagnostic context, such as SLF4J's {@code MDC}
+     */
+    public boolean usesMdc() {
+        return anyOf(MDC_TYPES);
+    }
+
+    /**
+     * @return whether the source file configures a logging framework programmatically
+     */
+    public boolean usesConfiguration() {
+        return anyOf(CONFIGURATION_TYPES);
+    }
+
+    private boolean anyOf(List<String> fullyQualifiedNames) {
+        for (String fqn : fullyQualifiedNames) {
+            if (types.contains(fqn)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A precondition that holds when the source file uses any of the given types or a subtype of them.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesType(String... fullyQualifiedNames) {
+        return precondition(index -> {
+            for (String fqn : fullyQualifiedNames) {
+                if (index.usesType(fqn)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * A precondition that holds when the source file uses any of the named methods of the given type.
+     */
+    public static TreeVisitor<?, ExecutionContext> usesMethod(String declaringType, String... methodNamePatterns) {
+        return precondition(index -> {
+            for (String methodNamePattern : methodNamePatterns) {
+                if (index.usesMethod(declaringType, methodNamePattern)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private static TreeVisitor<?, ExecutionContext> precondition(Predicate<LoggingUsageIndex> test) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile && test.test(get((JavaSourceFile) tree, ctx))) {
+                    return SearchResult.found(tree);
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static LoggingUsageIndex build(JavaSourceFile sourceFile) {
+        Set<String> types = new HashSet<>();
+        Map<String, Set<String>> methodNamesByType = new HashMap<>();
+        Set<JavaType.FullyQualified> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+            addHierarchy(TypeUtils.asFullyQualified(type), visited, types::add);
+        }
+        for (JavaType.Method method : sourceFile.getTypesInUse().getUsedMethods()) {
+            addHierarchy(method.getDeclaringType(), Collections.newSetFromMap(new IdentityHashMap<>()), fqn -> {
+                types.add(fqn);
+                methodNamesByType.computeIfAbsent(fqn, k -> new HashSet<>()).add(method.getName());
+            });
+        }
+        for (J.Import anImport : sourceFile.getImports()) {
+            types.add(normalize(anImport.getTypeName()));
+        }
+        return new LoggingUsageIndex(types, methodNamesByType);
+    }
+
+    private static void addHierarchy(JavaType.@Nullable FullyQualified type, Set<JavaType.FullyQualified> visited,
+                                     Consumer<String> add) {
+        if (type == null || type instanceof JavaType.Unknown || !visited.add(type)) {
+            return;
+        }
+        add.accept(normalize(type.getFullyQualifiedName()));
+        addHierarchy(type.getSupertype(), visited, add);
+        for (JavaType.FullyQualified anInterface : type.getInterfaces()) {
+            addHierarchy(anInterface, visited, add);
+        }
+    }
+
+    private static String normalize(String fullyQualifiedName) {
+        return fullyQualifiedName.replace('$', '.');
+    }
+
+    private static class Entry {
+        final WeakReference<JavaSourceFile> sourceFile;
+        final LoggingUsageIndex index;
+
+        Entry(JavaSourceFile sourceFile, LoggingUsageIndex index) {
+            this.sourceFile = new WeakReference<>(sourceFile);
+            this.index = index;
+        }
+    }
+}
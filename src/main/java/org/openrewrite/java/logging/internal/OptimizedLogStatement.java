@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import lombok.Value;
+import lombok.With;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.marker.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.openrewrite.Tree.randomId;
+
+/**
+ * Marks a log statement that {@code WrapExpensiveLogStatementsInConditionals} guarded with a log level check or
+ * converted to the fluent API, so later cycles and the guard recipes can recognize it without walking the tree again.
+ * The marker records the log method and the ids of its arguments, and only holds while both are unchanged: a recipe
+ * that replaces an argument, or changes the level, invalidates it.
+ */
+@Value
+@With
+public class OptimizedLogStatement implements Marker {
+    UUID id;
+    Kind kind;
+    String methodName;
+    List<UUID> argumentIds;
+
+    public enum Kind {
+        GUARDED,
+        FLUENT
+    }
+
+    public static J.MethodInvocation mark(J.MethodInvocation method, Kind kind) {
+        return method.withMarkers(method.getMarkers().computeByType(
+                new OptimizedLogStatement(randomId(), kind, method.getSimpleName(), argumentIds(method)),
+                (existing, replacement) -> replacement));
+    }
+
+    /**
+     * @return the marker of the statement if it is a log statement that is still as it was when it was marked
+     */
+    public static @Nullable OptimizedLogStatement find(J statement) {
+        if (!(statement instanceof J.MethodInvocation)) {
+            return null;
+        }
+        J.MethodInvocation method = (J.MethodInvocation) statement;
+        OptimizedLogStatement marker = method.getMarkers().findFirst(OptimizedLogStatement.class).orElse(null);
+        if (marker == null || !marker.methodName.equals(method.getSimpleName())) {
+            return null;
+        }
+        List<Expression> arguments = method.getArguments();
+        if (arguments.size() != marker.argumentIds.size()) {
+            return null;
+        }
+        for (int i = 0; i < arguments.size(); i++) {
+            if (!arguments.get(i).getId().equals(marker.argumentIds.get(i))) {
+                return null;
+            }
+        }
+        return marker;
+    }
+
+    /**
+     * @return whether the statement is a log statement that was guarded and is still as it was when it was guarded
+     */
+    public static boolean isGuarded(J statement) {
+        OptimizedLogStatement marker = find(statement);
+        return marker != null && marker.kind == Kind.GUARDED;
+    }
+
+    private static List<UUID> argumentIds(J.MethodInvocation method) {
+        List<UUID> ids = new ArrayList<>(method.getArguments().size());
+        for (Expression argument : method.getArguments()) {
+            ids.add(argument.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the classpath of template parsers from the type tables bundled with this module once per recipe run.
+ * {@link JavaParser.Builder#classpathFromResources(ExecutionContext, String...)} reads the type table again on every
+ * call, while templates only ever ask for a handful of artifacts, so the resolved jars are kept per artifact
+ * combination and handed to every later parser that asks for the same artifacts.
+ */
+public final class ParserClasspath {
+    private static final String KEY = ParserClasspath.class.getName();
+
+    private ParserClasspath() {
+    }
+
+    /**
+     * @param ctx           the execution context of the recipe run
+     * @param artifactNames the artifact names, as passed to {@code classpathFromResources}
+     * @return a parser builder for the current Java version with the classpath of the given artifacts
+     */
+    public static JavaParser.Builder<? extends JavaParser, ?> fromResources(ExecutionContext ctx, String... artifactNames) {
+        Map<String, List<Path>> resolved = ctx.computeMessageIfAbsent(KEY, k -> new ConcurrentHashMap<>());
+        List<Path> classpath = resolved.computeIfAbsent(String.join(",", artifactNames),
+                k -> JavaParser.dependenciesFromResources(ctx, artifactNames));
+        return JavaParser.fromJavaVersion().classpath(classpath);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.tree.*;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Decides whether two trees would print the same source without printing them. This is meant for recipes that
+ * rebuild a log statement piece by piece, such as {@code ParameterizedLogging} replacing its message and arguments,
+ * and want to keep the original tree when the rebuilt statement turned out to read exactly the same, so that the
+ * source file is not reported as changed.
+ * <p>
+ * The shapes that occur in log statements (invocations, identifiers, literals, field accesses, concatenations and
+ * parentheses) are compared node by node, including their whitespace. Any other shape, or whitespace that carries
+ * comments, falls back to comparing the printed source, so the answer is always the same as comparing prints.
+ */
+public final class StructuralEquivalence {
+
+    private StructuralEquivalence() {
+    }
+
+    /**
+     * @param before the original tree
+     * @param after  the tree that may replace it
+     * @param parent the cursor of the parent of {@code before}, used to print when a shape is not compared structurally
+     * @return {@code true} when both trees print the same source
+     */
+    public static boolean printsEqual(J before, J after, Cursor parent) {
+        Result result = compare(before, after);
+        if (result == Result.UNDECIDED) {
+            return before.print(parent).equals(after.print(parent));
+        }
+        return result == Result.EQUAL;
+    }
+
+    enum Result {
+        EQUAL, DIFFERENT, UNDECIDED;
+
+        Result and(Result other) {
+            if (this == DIFFERENT || other == DIFFERENT) {
+                return DIFFERENT;
+            }
+            return this == UNDECIDED || other == UNDECIDED ? UNDECIDED : EQUAL;
+        }
+    }
+
+    static Result compare(@Nullable J a, @Nullable J b) {
+        if (a == b) {
+            return Result.EQUAL;
+        }
+        if (a == null || b == null) {
+            return Result.DIFFERENT;
+        }
+        if (a.getClass() != b.getClass() || !a.getMarkers().getMarkers().isEmpty() || !b.getMarkers().getMarkers().isEmpty()) {
+            // e.g. an identifier and a field access can still print the same, and markers can change how a tree prints
+            return Result.UNDECIDED;
+        }
+        Result result = compare(a.getPrefix(), b.getPrefix());
+        if (result == Result.DIFFERENT) {
+            return result;
+        }
+        if (a instanceof J.Identifier) {
+            J.Identifier ia = (J.Identifier) a;
+            J.Identifier ib = (J.Identifier) b;
+            if (!ia.getAnnotations().isEmpty() || !ib.getAnnotations().isEmpty()) {
+                return Result.UNDECIDED;
+            }
+            return result.and(ia.getSimpleName().equals(ib.getSimpleName()) ? Result.EQUAL : Result.DIFFERENT);
+        } else if (a instanceof J.Literal) {
+            J.Literal la = (J.Literal) a;
+            J.Literal lb = (J.Literal) b;
+            if (la.getValueSource() == null || lb.getValueSource() == null || la.getUnicodeEscapes() != null || lb.getUnicodeEscapes() != null) {
+                return Result.UNDECIDED;
+            }
+            return result.and(la.getValueSource().equals(lb.getValueSource()) ? Result.EQUAL : Result.DIFFERENT);
+        } else if (a instanceof J.MethodInvocation) {
+            J.MethodInvocation ma = (J.MethodInvocation) a;
+            J.MethodInvocation mb = (J.MethodInvocation) b;
+            if (ma.getPadding().getTypeParameters() != null || mb.getPadding().getTypeParameters() != null) {
+                return Result.UNDECIDED;
+            }
+            result = result.and(compare(ma.getPadding().getSelect(), mb.getPadding().getSelect()));
+            if (result == Result.DIFFERENT) {
+                return result;
+            }
+            result = result.and(compare(ma.getName(), mb.getName()));
+            if (result == Result.DIFFERENT) {
+                return result;
+            }
+            return result.and(compare(ma.getPadding().getArguments(), mb.getPadding().getArguments()));
+        } else if (a instanceof J.FieldAccess) {
+            J.FieldAccess fa = (J.FieldAccess) a;
+            J.FieldAccess fb = (J.FieldAccess) b;
+            result = result.and(compare(fa.getTarget(), fb.getTarget()));
+            if (result == Result.DIFFERENT) {
+                return result;
+            }
+            result = result.and(compare(fa.getPadding().getName().getBefore(), fb.getPadding().getName().getBefore()));
+            return result == Result.DIFFERENT ? result : result.and(compare(fa.getName(), fb.getName()));
+        } else if (a instanceof J.Binary) {
+            J.Binary ba = (J.Binary) a;
+            J.Binary bb = (J.Binary) b;
+            if (ba.getOperator() != bb.getOperator()) {
+                return Result.DIFFERENT;
+            }
+            result = result.and(compare(ba.getLeft(), bb.getLeft()));
+            if (result == Result.DIFFERENT) {
+                return result;
+            }
+            result = result.and(compare(ba.getPadding().getOperator().getBefore(), bb.getPadding().getOperator().getBefore()));
+            return result == Result.DIFFERENT ? result : result.and(compare(ba.getRight(), bb.getRight()));
+        } else if (a instanceof J.Parentheses) {
+            return result.and(compare(((J.Parentheses<?>) a).getPadding().getTree(), ((J.Parentheses<?>) b).getPadding().getTree()));
+        } else if (a instanceof J.Empty) {
+            return result;
+        }
+        return Result.UNDECIDED;
+    }
+
+    private static Result compare(@Nullable JRightPadded<? extends J> a, @Nullable JRightPadded<? extends J> b) {
+        if (a == b) {
+            return Result.EQUAL;
+        }
+        if (a == null || b == null) {
+            return Result.DIFFERENT;
+        }
+        Result result = compare(a.getElement(), b.getElement());
+        return result == Result.DIFFERENT ? result : result.and(compare(a.getAfter(), b.getAfter()));
+    }
+
+    private static Result compare(JContainer<? extends J> a, JContainer<? extends J> b) {
+        if (a == b) {
+            return Result.EQUAL;
+        }
+        List<? extends JRightPadded<? extends J>> pa = a.getPadding().getElements();
+        List<? extends JRightPadded<? extends J>> pb = b.getPadding().getElements();
+        if (pa.size() != pb.size()) {
+            // an empty argument list and a single empty argument print the same
+            return pa.size() <= 1 && pb.size() <= 1 ? Result.UNDECIDED : Result.DIFFERENT;
+        }
+        Result result = compare(a.getBefore(), b.getBefore());
+        for (int i = 0; i < pa.size() && result != Result.DIFFERENT; i++) {
+            result = result.and(compare(pa.get(i), pb.get(i)));
+        }
+        return result;
+    }
+
+    private static Result compare(Space a, Space b) {
+        if (a == b) {
+            return Result.EQUAL;
+        }
+        if (!a.getComments().isEmpty() || !b.getComments().isEmpty()) {
+            return Result.UNDECIDED;
+        }
+        return Objects.equals(a.getWhitespace(), b.getWhitespace()) ? Result.EQUAL : Result.DIFFERENT;
+    }
+}
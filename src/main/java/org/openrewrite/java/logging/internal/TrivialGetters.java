@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The getters declared in the repository, by the fully qualified name of their declaring type and their name, and
+ * whether they are trivial: their body does nothing but return a field, a constant or a literal. Only methods named
+ * like a getter, without parameters and not static, are recorded; getters declared outside the repository, and those
+ * generated by annotation processors, are unknown.
+ */
+public final class TrivialGetters {
+    private final Map<String, Boolean> trivialBySignature = new HashMap<>();
+
+    /**
+     * @return the scanner of a recipe that judges getters by their body, recording the getters of each source file
+     */
+    public TreeVisitor<?, ExecutionContext> scanner() {
+        return new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+                // Only the body of getters matters, so there is no need to look into method bodies
+                record(method);
+                return method;
+            }
+        };
+    }
+
+    public void record(J.MethodDeclaration method) {
+        JavaType.Method methodType = method.getMethodType();
+        if (methodType == null || method.getBody() == null || !isGetterLike(method) ||
+                methodType.hasFlags(Flag.Static) || methodType.hasFlags(Flag.Abstract)) {
+            return;
+        }
+        trivialBySignature.put(signature(methodType), isTrivial(method.getBody()));
+    }
+
+    /**
+     * @return whether the method is a trivial getter, or {@code null} when it is not a getter declared in the repository
+     */
+    public @Nullable Boolean isTrivial(JavaType.@Nullable Method methodType) {
+        return methodType == null || trivialBySignature.isEmpty() ? null : trivialBySignature.get(signature(methodType));
+    }
+
+    private static boolean isGetterLike(J.MethodDeclaration method) {
+        String name = method.getSimpleName();
+        return (name.startsWith("get") && name.length() > 3 || name.startsWith("is") && name.length() > 2) &&
+                method.getParameters().stream().allMatch(J.Empty.class::isInstance);
+    }
+
+    private static boolean isTrivial(J.Block body) {
+        List<Statement> statements = body.getStatements();
+        if (statements.size() != 1 || !(statements.get(0) instanceof J.Return)) {
+            return false;
+        }
+        Expression returned = ((J.Return) statements.get(0)).getExpression();
+        while (returned instanceof J.Parentheses && ((J.Parentheses<?>) returned).getTree() instanceof Expression) {
+            returned = (Expression) ((J.Parentheses<?>) returned).getTree();
+        }
+        return returned instanceof J.Identifier || returned instanceof J.FieldAccess || returned instanceof J.Literal;
+    }
+
+    private static String signature(JavaType.Method methodType) {
+        return methodType.getDeclaringType().getFullyQualifiedName() + '#' + methodType.getName();
+    }
+}
@@ -24,8 +24,7 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
@@ -49,13 +48,9 @@ public class LoggerLevelArgumentToMethod extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         TreeVisitor<?, ExecutionContext> preconditions = Preconditions.and(
-                new UsesType<>("org.jboss.logging.Logger", true),
-                new UsesType<>("org.jboss.logging.Logger.Level", true),
-                Preconditions.or(
-                        new UsesMethod<>(LOG_MATCHER),
-                        new UsesMethod<>(LOGF_MATCHER),
-                        new UsesMethod<>(LOGV_MATCHER)
-                )
+                LoggingUsageIndex.usesType("org.jboss.logging.Logger"),
+                LoggingUsageIndex.usesType("org.jboss.logging.Logger.Level"),
+                LoggingUsageIndex.usesMethod("org.jboss.logging.Logger", "log", "logf", "logv")
         );
         return Preconditions.check(preconditions, new JavaIsoVisitor<ExecutionContext>() {
                     @Override
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.jul;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.logging.internal.ArgumentCostModel;
+import org.openrewrite.java.logging.internal.LambdaCaptures;
+import org.openrewrite.java.logging.internal.LogStatements;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
+import org.openrewrite.java.logging.internal.TrivialGetters;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class DeferExpensiveLogMessages extends ScanningRecipe<TrivialGetters> {
+    private static final String LOGGER = "java.util.logging.Logger";
+    private static final String SUPPLIER = "java.util.function.Supplier";
+
+    // Only matching up to INFO, as WARNING and SEVERE are rarely disabled
+    private static final Set<String> LEVEL_METHODS = new HashSet<>(Arrays.asList("finest", "finer", "fine", "config", "info"));
+    private static final MethodMatcher levelMethodMatcher = new MethodMatcher(LOGGER + " *(String)", true);
+    private static final MethodMatcher logMatcher = new MethodMatcher(LOGGER + " log(java.util.logging.Level, String)", true);
+    private static final MethodMatcher logThrowableMatcher = new MethodMatcher(LOGGER + " log(java.util.logging.Level, String, Throwable)", true);
+
+    @Option(displayName = "Method costs",
+            description = ArgumentCostModel.METHOD_COSTS_DESCRIPTION,
+            required = false,
+            example = "java.util.Arrays toString(..)=10")
+    @Nullable
+    List<String> methodCosts;
+
+    @Option(displayName = "Cost threshold",
+            description = "The cost from which a message is deferred until the log level is known to be enabled. " +
+                    "Defaults to 1, which defers any message that is not free to evaluate. String concatenations are " +
+                    "always deferred.",
+            required = false,
+            example = "10")
+    @Nullable
+    Integer costThreshold;
+
+    String displayName = "Defer expensive `java.util.logging` messages";
+
+    String description = "When finest, finer, fine, config and info log statements, or `Logger.log(Level, ..)`, build " +
+            "their message by concatenation or method calls, the message is built regardless of whether the log " +
+            "level is enabled. This recipe passes such messages to the `Supplier<String>` overloads of " +
+            "`java.util.logging.Logger` as `() -> message` lambdas instead, which are only invoked once the log level " +
+            "is known to be enabled. Literal messages are left alone.";
+
+    public DeferExpensiveLogMessages() {
+        this(null, null);
+    }
+
+    @JsonCreator
+    public DeferExpensiveLogMessages(@Nullable List<String> methodCosts, @Nullable Integer costThreshold) {
+        this.methodCosts = methodCosts;
+        this.costThreshold = costThreshold;
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(ArgumentCostModel.validate(methodCosts, costThreshold));
+    }
+
+    @Override
+    public TrivialGetters getInitialValue(ExecutionContext ctx) {
+        return new TrivialGetters();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(TrivialGetters trivialGetters) {
+        return trivialGetters.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(TrivialGetters trivialGetters) {
+        ArgumentCostModel costModel = ArgumentCostModel.of(methodCosts, costThreshold).withTrivialGetters(trivialGetters);
+        return Preconditions.check(LoggingUsageIndex.usesMethod(LOGGER, "finest", "finer", "fine", "config", "info", "log"), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                boolean withThrowable = logThrowableMatcher.matches(m);
+                if (m.getMethodType() == null || !(withThrowable || LEVEL_METHODS.contains(m.getSimpleName()) && levelMethodMatcher.matches(m) || logMatcher.matches(m))) {
+                    return m;
+                }
+                List<Expression> args = m.getArguments();
+                int messageIndex = m.getSimpleName().equals("log") ? 1 : 0;
+                Expression message = args.get(messageIndex);
+                if (!(costModel.isExpensive(message) || isConcatenation(costModel, message)) ||
+                        !LambdaCaptures.canCapture(message, getCursor()) ||
+                        // A statement in the then-part of its logger's level check only runs when the level is enabled
+                        LogStatements.isGuarded(getCursor(), m)) {
+                    return m;
+                }
+                JavaType.Method overload = supplierOverload(m.getMethodType(), withThrowable);
+                if (overload == null) {
+                    return m;
+                }
+
+                // The supplier overloads take the message last, after the Throwable
+                List<Expression> deferred = new ArrayList<>(args.subList(0, messageIndex));
+                if (withThrowable) {
+                    deferred.add(args.get(2).withPrefix(message.getPrefix()));
+                }
+                deferred.add(LogStatements.supplier(message.withPrefix(withThrowable ? args.get(2).getPrefix() : message.getPrefix()),
+                        overload.getParameterTypes().get(overload.getParameterTypes().size() - 1)));
+                return m.withArguments(deferred)
+                        .withMethodType(overload)
+                        .withName(m.getName().withType(overload));
+            }
+        });
+    }
+
+    /**
+     * @return whether the message is concatenated from anything but literals, which builds a new string every time
+     */
+    private static boolean isConcatenation(ArgumentCostModel costModel, Expression message) {
+        Expression unwrapped = message;
+        while (unwrapped instanceof J.Parentheses && ((J.Parentheses<?>) unwrapped).getTree() instanceof Expression) {
+            unwrapped = (Expression) ((J.Parentheses<?>) unwrapped).getTree();
+        }
+        return unwrapped instanceof J.Binary &&
+                ((J.Binary) unwrapped).getOperator() == J.Binary.Type.Addition &&
+                costModel.cost(unwrapped) > 0;
+    }
+
+    /**
+     * @return the overload taking a {@code Supplier<String>} in place of the message, such as {@code fine(Supplier)}
+     * or {@code log(Level, Throwable, Supplier)}
+     */
+    private static JavaType.@Nullable Method supplierOverload(JavaType.Method methodType, boolean withThrowable) {
+        List<JavaType> parameterTypes = methodType.getParameterTypes();
+        for (JavaType.Method candidate : methodType.getDeclaringType().getMethods()) {
+            List<JavaType> candidateTypes = candidate.getParameterTypes();
+            if (!candidate.getName().equals(methodType.getName()) || candidateTypes.size() != parameterTypes.size() ||
+                    !TypeUtils.isOfClassType(candidateTypes.get(candidateTypes.size() - 1), SUPPLIER)) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < candidateTypes.size() - 1 && matches; i++) {
+                // log(Level, String, Throwable) becomes log(Level, Throwable, Supplier)
+                JavaType expected = withThrowable && i == 1 ? parameterTypes.get(2) : parameterTypes.get(i);
+                matches = TypeUtils.isOfType(candidateTypes.get(i), expected);
+            }
+            if (matches) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
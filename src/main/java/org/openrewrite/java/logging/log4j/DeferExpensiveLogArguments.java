@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.log4j;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.logging.internal.ArgumentCostModel;
+import org.openrewrite.java.logging.internal.LambdaCaptures;
+import org.openrewrite.java.logging.internal.LogStatements;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
+import org.openrewrite.java.logging.internal.TrivialGetters;
+import org.openrewrite.java.tree.*;
+
+import java.util.List;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class DeferExpensiveLogArguments extends ScanningRecipe<TrivialGetters> {
+    private static final String LOGGER = "org.apache.logging.log4j.Logger";
+    private static final String SUPPLIER = "org.apache.logging.log4j.util.Supplier";
+
+    // Only matching up to INFO, as WARN and ERROR are rarely disabled
+    private static final MethodMatcher infoMatcher = new MethodMatcher(LOGGER + " info(..)", true);
+    private static final MethodMatcher debugMatcher = new MethodMatcher(LOGGER + " debug(..)", true);
+    private static final MethodMatcher traceMatcher = new MethodMatcher(LOGGER + " trace(..)", true);
+
+    @Option(displayName = "Method costs",
+            description = ArgumentCostModel.METHOD_COSTS_DESCRIPTION,
+            required = false,
+            example = "java.util.Arrays toString(..)=10")
+    @Nullable
+    List<String> methodCosts;
+
+    @Option(displayName = "Cost threshold",
+            description = ArgumentCostModel.COST_THRESHOLD_DESCRIPTION,
+            required = false,
+            example = "10")
+    @Nullable
+    Integer costThreshold;
+
+    String displayName = "Defer expensive Log4j 2.x log arguments";
+
+    String description = "When trace, debug and info log statements use methods for constructing log messages, " +
+            "those methods are called regardless of whether the log level is enabled. This recipe passes such " +
+            "arguments to the `Supplier` overloads of the Log4j 2.x `Logger` as `() -> expression` lambdas instead, " +
+            "which are only invoked once the log level is known to be enabled. Arguments are judged expensive the " +
+            "same way `WrapExpensiveLogStatementsInConditionals` judges them for SLF4J.";
+
+    public DeferExpensiveLogArguments() {
+        this(null, null);
+    }
+
+    @JsonCreator
+    public DeferExpensiveLogArguments(@Nullable List<String> methodCosts, @Nullable Integer costThreshold) {
+        this.methodCosts = methodCosts;
+        this.costThreshold = costThreshold;
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(ArgumentCostModel.validate(methodCosts, costThreshold));
+    }
+
+    @Override
+    public TrivialGetters getInitialValue(ExecutionContext ctx) {
+        return new TrivialGetters();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(TrivialGetters trivialGetters) {
+        return trivialGetters.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(TrivialGetters trivialGetters) {
+        ArgumentCostModel costModel = ArgumentCostModel.of(methodCosts, costThreshold).withTrivialGetters(trivialGetters);
+        return Preconditions.check(LoggingUsageIndex.usesMethod(LOGGER, "info", "debug", "trace"), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                JavaType.Method methodType = m.getMethodType();
+                if (methodType == null || !(infoMatcher.matches(m) || debugMatcher.matches(m) || traceMatcher.matches(m))) {
+                    return m;
+                }
+                int message = messageIndex(methodType);
+                // A statement in the then-part of its logger's level check only runs when the level is enabled
+                if (message < 0 || LogStatements.isGuarded(getCursor(), m)) {
+                    return m;
+                }
+                List<Expression> args = m.getArguments();
+                List<JavaType> parameterTypes = methodType.getParameterTypes();
+                JavaType.Method overload;
+                int firstDeferred;
+                if (parameterTypes.size() == message + 1 ||
+                        parameterTypes.size() == message + 2 && TypeUtils.isOfClassType(parameterTypes.get(message + 1), "java.lang.Throwable")) {
+                    // A message without parameters is deferred as a whole
+                    if (!costModel.isExpensive(args.get(message))) {
+                        return m;
+                    }
+                    overload = messageSupplierOverload(methodType, message);
+                    firstDeferred = message;
+                } else {
+                    if (!hasOnlyObjectParameters(methodType, message + 1, args.size()) || !anyExpensive(costModel, args, message + 1)) {
+                        return m;
+                    }
+                    overload = parameterSuppliersOverload(methodType, message);
+                    firstDeferred = message + 1;
+                }
+                if (overload == null) {
+                    return m;
+                }
+                int lastDeferred = firstDeferred == message ? message : args.size() - 1;
+                for (int i = firstDeferred; i <= lastDeferred; i++) {
+                    if (!LambdaCaptures.canCapture(args.get(i), getCursor())) {
+                        return m;
+                    }
+                }
+
+                JavaType supplierType = supplierParameterType(overload, firstDeferred);
+                return m.withArguments(ListUtils.map(args, (i, arg) -> i < firstDeferred || i > lastDeferred ? arg :
+                                LogStatements.supplier(arg, supplierType)))
+                        .withMethodType(overload)
+                        .withName(m.getName().withType(overload));
+            }
+        });
+    }
+
+    /**
+     * @return the index of the {@code String} message parameter, or -1 when the method takes no such message
+     */
+    private static int messageIndex(JavaType.Method methodType) {
+        List<JavaType> parameterTypes = methodType.getParameterTypes();
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            if (TypeUtils.isString(parameterTypes.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return whether the parameters from {@code from} on are {@code Object}s, passed one by one rather than as an
+     * explicit array
+     */
+    private static boolean hasOnlyObjectParameters(JavaType.Method methodType, int from, int argumentCount) {
+        List<JavaType> parameterTypes = methodType.getParameterTypes();
+        for (int i = from; i < parameterTypes.size(); i++) {
+            JavaType parameterType = parameterTypes.get(i);
+            if (i == parameterTypes.size() - 1 && methodType.hasFlags(Flag.Varargs)) {
+                return argumentCount != parameterTypes.size() &&
+                        parameterType instanceof JavaType.Array && TypeUtils.isObject(((JavaType.Array) parameterType).getElemType());
+            }
+            if (!TypeUtils.isObject(parameterType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean anyExpensive(ArgumentCostModel costModel, List<Expression> args, int from) {
+        for (int i = from; i < args.size(); i++) {
+            if (costModel.isExpensive(args.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the overload taking a {@code Supplier<?>} in place of the message, such as {@code debug(Marker, Supplier, Throwable)}
+     */
+    private static JavaType.@Nullable Method messageSupplierOverload(JavaType.Method methodType, int message) {
+        List<JavaType> parameterTypes = methodType.getParameterTypes();
+        for (JavaType.Method candidate : methodType.getDeclaringType().getMethods()) {
+            List<JavaType> candidateTypes = candidate.getParameterTypes();
+            if (!candidate.getName().equals(methodType.getName()) || candidateTypes.size() != parameterTypes.size()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < candidateTypes.size() && matches; i++) {
+                matches = i == message ? TypeUtils.isOfClassType(candidateTypes.get(i), SUPPLIER) :
+                        TypeUtils.isOfType(candidateTypes.get(i), parameterTypes.get(i));
+            }
+            if (matches) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the overload taking the message followed by {@code Supplier<?>...}, such as {@code debug(String, Supplier...)}
+     */
+    private static JavaType.@Nullable Method parameterSuppliersOverload(JavaType.Method methodType, int message) {
+        List<JavaType> parameterTypes = methodType.getParameterTypes();
+        for (JavaType.Method candidate : methodType.getDeclaringType().getMethods()) {
+            List<JavaType> candidateTypes = candidate.getParameterTypes();
+            if (!candidate.getName().equals(methodType.getName()) || !candidate.hasFlags(Flag.Varargs) ||
+                    candidateTypes.size() != message + 2) {
+                continue;
+            }
+            boolean matches = candidateTypes.get(message + 1) instanceof JavaType.Array &&
+                    TypeUtils.isOfClassType(((JavaType.Array) candidateTypes.get(message + 1)).getElemType(), SUPPLIER);
+            for (int i = 0; i <= message && matches; i++) {
+                matches = TypeUtils.isOfType(candidateTypes.get(i), parameterTypes.get(i));
+            }
+            if (matches) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static JavaType supplierParameterType(JavaType.Method overload, int index) {
+        List<JavaType> parameterTypes = overload.getParameterTypes();
+        JavaType parameterType = parameterTypes.get(Math.min(index, parameterTypes.size() - 1));
+        return parameterType instanceof JavaType.Array ? ((JavaType.Array) parameterType).getElemType() : parameterType;
+    }
+}
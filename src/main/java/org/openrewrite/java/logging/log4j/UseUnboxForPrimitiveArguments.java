@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.log4j;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.logging.internal.LogGuardPolicy;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
+import org.openrewrite.java.logging.internal.ParserClasspath;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.openrewrite.Tree.randomId;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class UseUnboxForPrimitiveArguments extends Recipe {
+    private static final String LOGGER = "org.apache.logging.log4j.Logger";
+    private static final String UNBOX = "org.apache.logging.log4j.util.Unbox";
+    private static final String UNBOX_TYPE = UseUnboxForPrimitiveArguments.class.getName() + ".UNBOX_TYPE";
+    private static final MethodMatcher LOG_METHOD = new MethodMatcher(LOGGER + " *(..)", true);
+    private static final Set<String> LOG_METHODS = new HashSet<>(Arrays.asList(
+            "trace", "debug", "info", "warn", "error", "fatal", "log"));
+    private static final int MAX_UNROLLED_PARAMETERS = 10;
+
+    String displayName = "Use `Unbox.box(..)` for primitive Log4j 2.x arguments";
+
+    String description = "Wraps primitive arguments of Log4j 2.x parameterized log statements in `Unbox.box(..)`, which " +
+            "formats them through a reused thread-local `StringBuilder` instead of allocating a wrapper object. `boolean` " +
+            "and `byte` arguments are left as they are, as boxing them never allocates. An explicit " +
+            "`new Object[]{..}` of up to 10 arguments is unrolled onto the matching fixed-arity overload, so the call does " +
+            "not allocate a varargs array either. Together with Log4j's garbage-free mode, this lets steady-state logging " +
+            "allocate nothing. Only messages that are literals with `{}` placeholders are changed, as the arguments of " +
+            "a formatter logger must remain numbers.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return Preconditions.check(LoggingUsageIndex.usesMethod(LOGGER, LOG_METHODS.toArray(new String[0])), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                if (!LOG_METHODS.contains(m.getSimpleName()) || !LOG_METHOD.matches(m)) {
+                    return m;
+                }
+                m = unrollArgumentArray(m);
+                JavaType.Method methodType = m.getMethodType();
+                int firstParameter = methodType == null ? 0 : firstParameterIndex(methodType);
+                if (methodType == null || firstParameter == 0 || !hasPlaceholders(m.getArguments().get(firstParameter - 1))) {
+                    return m;
+                }
+
+                JavaType.FullyQualified unbox = TypeUtils.asFullyQualified(ctx.computeMessageIfAbsent(UNBOX_TYPE, k -> parseUnboxType(ctx)));
+                if (unbox == null) {
+                    return m;
+                }
+                J.MethodInvocation mi = m;
+                m = m.withArguments(ListUtils.map(m.getArguments(), (i, arg) -> {
+                    if (i < firstParameter || !LogGuardPolicy.isBoxed(arg) || !TypeUtils.isObject(parameterType(methodType, i))) {
+                        return arg;
+                    }
+                    JavaType.Method box = box(unbox, (JavaType.Primitive) arg.getType());
+                    return box == null ? arg : invokeBox(unbox, box, arg);
+                }));
+                if (m != mi) {
+                    maybeAddImport(UNBOX);
+                }
+                return m;
+            }
+        });
+    }
+
+    /**
+     * Moves the elements of a trailing {@code new Object[]{..}} onto the fixed-arity overload taking that many
+     * {@code Object} parameters, when there is one and the unrolled call cannot resolve to a different overload.
+     */
+    private static J.MethodInvocation unrollArgumentArray(J.MethodInvocation m) {
+        JavaType.Method methodType = m.getMethodType();
+        List<Expression> args = m.getArguments();
+        if (methodType == null || !methodType.hasFlags(Flag.Varargs) ||
+                args.size() != methodType.getParameterTypes().size() ||
+                !(args.get(args.size() - 1) instanceof J.NewArray)) {
+            return m;
+        }
+        J.NewArray array = (J.NewArray) args.get(args.size() - 1);
+        if (array.getInitializer() == null || !(array.getType() instanceof JavaType.Array) ||
+                !TypeUtils.isObject(((JavaType.Array) array.getType()).getElemType())) {
+            return m;
+        }
+        List<Expression> elements = new ArrayList<>(array.getInitializer().size());
+        for (Expression element : array.getInitializer()) {
+            if (!(element instanceof J.Empty)) {
+                elements.add(element);
+            }
+        }
+        if (elements.size() > MAX_UNROLLED_PARAMETERS) {
+            return m;
+        }
+        for (Expression element : elements) {
+            if (!isUnambiguous(element)) {
+                return m;
+            }
+        }
+        JavaType.Method overload = fixedArityOverload(methodType, args.size() - 1, elements.size());
+        if (overload == null) {
+            return m;
+        }
+        List<Expression> unrolled = new ArrayList<>(args.subList(0, args.size() - 1));
+        unrolled.addAll(ListUtils.mapFirst(elements, first -> first.withPrefix(array.getPrefix())));
+        return m.withArguments(unrolled)
+                .withMethodType(overload)
+                .withName(m.getName().withType(overload));
+    }
+
+    private static JavaType.@Nullable Method fixedArityOverload(JavaType.Method varargs, int fixed, int objects) {
+        List<JavaType> parameterTypes = varargs.getParameterTypes();
+        for (JavaType.Method method : varargs.getDeclaringType().getMethods()) {
+            if (!method.getName().equals(varargs.getName()) || method.hasFlags(Flag.Varargs) ||
+                    method.getParameterTypes().size() != fixed + objects) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < method.getParameterTypes().size() && matches; i++) {
+                JavaType parameterType = method.getParameterTypes().get(i);
+                matches = i < fixed ? TypeUtils.isOfType(parameterType, parameterTypes.get(i)) : TypeUtils.isObject(parameterType);
+            }
+            if (matches) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return whether the argument resolves to an {@code Object} parameter once unrolled, rather than to one of the
+     * overloads taking a {@code Throwable} or a supplier, or to none at all for {@code null}
+     */
+    private static boolean isUnambiguous(Expression argument) {
+        JavaType type = argument.getType();
+        return type != null && !(type instanceof JavaType.Unknown) && type != JavaType.Primitive.Null &&
+                !TypeUtils.isAssignableTo("java.lang.Throwable", type) &&
+                !TypeUtils.isAssignableTo("org.apache.logging.log4j.util.Supplier", type) &&
+                !TypeUtils.isAssignableTo("org.apache.logging.log4j.util.MessageSupplier", type);
+    }
+
+    /**
+     * {@code Unbox.box(..)} only suits {@code {}} placeholders, as a {@code StringBuilder} fails the numeric
+     * conversions of a logger created with {@code LogManager.getFormatterLogger(..)}. Which kind of logger is used
+     * cannot be told from its type, so only messages that are literals with such placeholders are considered.
+     */
+    private static boolean hasPlaceholders(Expression message) {
+        return message instanceof J.Literal &&
+                ((J.Literal) message).getValue() instanceof String &&
+                ((String) ((J.Literal) message).getValue()).contains("{}");
+    }
+
+    /**
+     * @return the index of the first parameter after the {@code String} message, or 0 when there is no message and so
+     * no parameters to format
+     */
+    private static int firstParameterIndex(JavaType.Method methodType) {
+        List<JavaType> parameterTypes = methodType.getParameterTypes();
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            if (TypeUtils.isString(parameterTypes.get(i))) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static @Nullable JavaType parameterType(JavaType.Method methodType, int index) {
+        List<JavaType> parameterTypes = methodType.getParameterTypes();
+        if (index < parameterTypes.size() - 1 || !methodType.hasFlags(Flag.Varargs)) {
+            return index < parameterTypes.size() ? parameterTypes.get(index) : null;
+        }
+        JavaType varargs = parameterTypes.get(parameterTypes.size() - 1);
+        return varargs instanceof JavaType.Array ? ((JavaType.Array) varargs).getElemType() : null;
+    }
+
+    private static JavaType.@Nullable Method box(JavaType.FullyQualified unbox, JavaType.Primitive primitive) {
+        for (JavaType.Method method : unbox.getMethods()) {
+            if ("box".equals(method.getName()) && method.getParameterTypes().size() == 1 &&
+                    method.getParameterTypes().get(0) == primitive) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static J.MethodInvocation invokeBox(JavaType.FullyQualified unbox, JavaType.Method box, Expression arg) {
+        J.Identifier select = new J.Identifier(randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), unbox.getClassName(), unbox, null);
+        return new J.MethodInvocation(randomId(), arg.getPrefix(), Markers.EMPTY, JRightPadded.build(select), null,
+                new J.Identifier(randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), box.getName(), box, null),
+                JContainer.build(singletonList(JRightPadded.build(arg.withPrefix(Space.EMPTY)))), box);
+    }
+
+    private static JavaType parseUnboxType(ExecutionContext ctx) {
+        return ParserClasspath.fromResources(ctx, "log4j-api-2.+")
+                .build()
+                .parse(ctx, "class UnboxType { org.apache.logging.log4j.util.Unbox unbox; }")
+                .findFirst()
+                .filter(J.CompilationUnit.class::isInstance)
+                .map(cu -> ((J.CompilationUnit) cu).getClasses().get(0).getBody().getStatements().get(0))
+                .filter(J.VariableDeclarations.class::isInstance)
+                .map(variable -> ((J.VariableDeclarations) variable).getType())
+                .orElse(JavaType.Unknown.getInstance());
+    }
+}
@@ -22,6 +22,7 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.logging.internal.FormatTokens;
 import org.openrewrite.java.logging.internal.JavaStringEscapes;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
@@ -41,11 +42,15 @@ public abstract class AbstractFormatToParameterizedLogging extends Recipe {
 
     protected abstract boolean isFormatCall(J.MethodInvocation call);
 
-    protected abstract boolean isValidFormatString(String format);
+    protected abstract FormatTokens tokenize(String format);
 
-    protected abstract boolean validateArgumentCount(String format, List<Expression> formatArgs);
+    protected abstract boolean isValidFormatString(FormatTokens format);
 
-    protected abstract String convertToSlf4jTemplate(String format);
+    protected abstract boolean validateArgumentCount(FormatTokens format, List<Expression> formatArgs);
+
+    protected String convertToSlf4jTemplate(FormatTokens format) {
+        return format.toSlf4jTemplate();
+    }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
@@ -85,15 +90,16 @@ public abstract class AbstractFormatToParameterizedLogging extends Recipe {
                     return m;
                 }
 
-                if (!isValidFormatString(formatString)) {
+                FormatTokens tokens = tokenize(formatString);
+                if (!isValidFormatString(tokens)) {
                     return m;
                 }
 
-                if (!validateArgumentCount(formatString, formatArgs)) {
+                if (!validateArgumentCount(tokens, formatArgs)) {
                     return m;
                 }
 
-                String slf4jTemplate = convertToSlf4jTemplate(formatString);
+                String slf4jTemplate = convertToSlf4jTemplate(tokens);
 
                 List<Expression> newArgs = buildNewArguments(args, formatArgIndex, slf4jTemplate, formatArgs);
 
@@ -23,14 +23,13 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.logging.internal.FormatTokens;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
 import java.time.Duration;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.openrewrite.Tree.randomId;
 
@@ -68,7 +67,7 @@ public class CompleteExceptionLogging extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("org.slf4j.Logger", null), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(LoggingUsageIndex.usesType("org.slf4j.Logger"), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method,
                                                             ExecutionContext ctx) {
@@ -188,13 +187,7 @@ public class CompleteExceptionLogging extends Recipe {
     }
 
     private static int countPlaceholders(String message) {
-        int count = 0;
-        Pattern pattern = Pattern.compile("\\{}");
-        Matcher matcher = pattern.matcher(message);
-        while (matcher.find()) {
-            count++;
-        }
-        return count;
+        return FormatTokens.slf4j(message).size();
     }
 
     public static boolean isStringLiteral(Expression expression) {
@@ -22,10 +22,10 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
+import org.openrewrite.java.logging.internal.ParserClasspath;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
@@ -44,7 +44,7 @@ public class JulGetLoggerToLoggerFactory extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(GET_LOGGER), new JavaIsoVisitor<ExecutionContext>() {
+        return Preconditions.check(LoggingUsageIndex.usesMethod("java.util.logging.Logger", "getLogger"), new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
@@ -72,7 +72,7 @@ public class JulGetLoggerToLoggerFactory extends Recipe {
 
                 return JavaTemplate.builder("LoggerFactory.getLogger(#{any(java.lang.Class)})")
                         .imports("org.slf4j.LoggerFactory")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "slf4j-api-2.+"))
+                        .javaParser(ParserClasspath.fromResources(ctx, "slf4j-api-2.+"))
                         .build()
                         .apply(getCursor(), mi.getCoordinates().replace(), classExpr);
             }
@@ -27,7 +27,7 @@ import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.logging.ArgumentArrayToVarargs;
 import org.openrewrite.java.logging.internal.JavaStringEscapes;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.tree.*;
 
 import java.util.ArrayList;
@@ -54,7 +54,7 @@ public class JulParameterizedArguments extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.or(new UsesMethod<>(METHOD_MATCHER_PARAM), new UsesMethod<>(METHOD_MATCHER_ARRAY)), new JulParameterizedToSlf4jVisitor());
+        return Preconditions.check(LoggingUsageIndex.usesMethod("java.util.logging.Logger", "log"), new JulParameterizedToSlf4jVisitor());
     }
 
     private static class JulParameterizedToSlf4jVisitor extends JavaIsoVisitor<ExecutionContext> {
@@ -23,11 +23,14 @@ import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.LogGuardPolicy;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
+import org.openrewrite.java.logging.internal.OptimizedLogStatement;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.Statement;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Comparator.comparing;
@@ -51,15 +54,15 @@ public class MatchIsLogLevelEnabledWithLogStatements extends Recipe {
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
         return Preconditions.check(
-                new UsesMethod<>(ENABLED_MATCHER),
+                LoggingUsageIndex.usesMethod("org.slf4j.Logger", "is*Enabled"),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.If visitIf(J.If iff, ExecutionContext ctx) {
                         J.If if_ = super.visitIf(iff, ctx);
-                        if (if_.getIfCondition().getTree() instanceof J.MethodInvocation && if_.getElsePart() == null) {
+                        if (LogGuardPolicy.isGuard(if_)) {
                             J.MethodInvocation mi = (J.MethodInvocation) if_.getIfCondition().getTree();
                             LogLevel conditionLogLevel = LogLevel.extractEnabledLogLevel(mi);
-                            if (conditionLogLevel != null) {
+                            if (conditionLogLevel != null && !isGuardedAt(if_, conditionLogLevel)) {
                                 LogLevel maxUsedLogLevel = findMaxUsedLogLevel(if_.getThenPart());
                                 if (maxUsedLogLevel != null && conditionLogLevel != maxUsedLogLevel) {
                                     return if_.withIfCondition(if_.getIfCondition()
@@ -70,6 +73,23 @@ public class MatchIsLogLevelEnabledWithLogStatements extends Recipe {
                         return if_;
                     }
 
+                    /**
+                     * @return whether the guard consists only of log statements at the level that were guarded
+                     * by {@link WrapExpensiveLogStatementsInConditionals} and have not changed since
+                     */
+                    private boolean isGuardedAt(J.If guard, LogLevel level) {
+                        List<Statement> statements = LogGuardPolicy.thenStatements(guard);
+                        if (statements.isEmpty()) {
+                            return false;
+                        }
+                        for (Statement statement : statements) {
+                            if (!OptimizedLogStatement.isGuarded(statement) || !level.name().equals(((J.MethodInvocation) statement).getSimpleName())) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+
                     private @Nullable LogLevel findMaxUsedLogLevel(Statement statement) {
                         return new JavaIsoVisitor<AtomicReference<@Nullable LogLevel>>() {
                             @Override
@@ -19,22 +19,16 @@ import lombok.Getter;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.logging.internal.FormatTokens;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class MessageFormatToParameterizedLogging extends AbstractFormatToParameterizedLogging {
 
     private static final MethodMatcher MESSAGE_FORMAT = new MethodMatcher("java.text.MessageFormat format(..)");
-    private static final Pattern SIMPLE_PLACEHOLDER = Pattern.compile("\\{(\\d+)}");
-    private static final Pattern COMPLEX_PLACEHOLDER = Pattern.compile("\\{\\d+,[^}]+}");
 
     @Getter
     final String displayName = "`MessageFormat.format()` in logging statements should use SLF4J parameterized logging";
@@ -44,7 +38,7 @@ public class MessageFormatToParameterizedLogging extends AbstractFormatToParamet
 
     @Override
     protected TreeVisitor<?, ExecutionContext> getFormatPrecondition() {
-        return new UsesType<>("java.text.MessageFormat", null);
+        return LoggingUsageIndex.usesType("java.text.MessageFormat");
     }
 
     @Override
@@ -53,51 +47,24 @@ public class MessageFormatToParameterizedLogging extends AbstractFormatToParamet
     }
 
     @Override
-    protected boolean isValidFormatString(String pattern) {
-        if (COMPLEX_PLACEHOLDER.matcher(pattern).find()) {
-            return false;
-        }
-
-        return SIMPLE_PLACEHOLDER.matcher(pattern).find();
+    protected FormatTokens tokenize(String pattern) {
+        return FormatTokens.messageFormat(pattern);
     }
 
     @Override
-    protected boolean validateArgumentCount(String pattern, List<Expression> formatArgs) {
-        SortedSet<Integer> indices = new TreeSet<>();
-        Matcher matcher = SIMPLE_PLACEHOLDER.matcher(pattern);
-        while (matcher.find()) {
-            indices.add(Integer.parseInt(matcher.group(1)));
-        }
-
-        if (indices.isEmpty()) {
-            return false;
-        }
+    protected boolean isValidFormatString(FormatTokens pattern) {
+        return !pattern.contains(FormatTokens.UNSUPPORTED) && pattern.contains(FormatTokens.ARGUMENT);
+    }
 
+    @Override
+    protected boolean validateArgumentCount(FormatTokens pattern, List<Expression> formatArgs) {
+        // Placeholders must be used exactly once each, in the order of their indices
         int expected = 0;
-        for (Integer index : indices) {
-            if (index != expected) {
-                return false;
-            }
-            expected++;
-        }
-
-        List<Integer> indicesInOrder = new ArrayList<>();
-        Matcher orderMatcher = SIMPLE_PLACEHOLDER.matcher(pattern);
-        while (orderMatcher.find()) {
-            indicesInOrder.add(Integer.parseInt(orderMatcher.group(1)));
-        }
-        for (int i = 0; i < indicesInOrder.size(); i++) {
-            if (indicesInOrder.get(i) != i) {
+        for (int i = 0; i < pattern.size(); i++) {
+            if (pattern.kind(i) == FormatTokens.ARGUMENT && pattern.argumentIndex(i) != expected++) {
                 return false;
             }
         }
-
-        int maxIndex = indices.last();
-        return formatArgs.size() == maxIndex + 2;
-    }
-
-    @Override
-    protected String convertToSlf4jTemplate(String pattern) {
-        return pattern.replaceAll("\\{\\d+}", "{}");
+        return formatArgs.size() == expected + 1;
     }
 }
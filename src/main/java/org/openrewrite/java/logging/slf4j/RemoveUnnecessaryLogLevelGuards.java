@@ -18,12 +18,14 @@ package org.openrewrite.java.logging.slf4j;
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
-import org.openrewrite.Recipe;
+import org.openrewrite.ScanningRecipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.ArgumentCostModel;
+import org.openrewrite.java.logging.internal.LogGuardPolicy;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
+import org.openrewrite.java.logging.internal.TrivialGetters;
 import org.openrewrite.java.tree.*;
 
 import java.util.Arrays;
@@ -32,85 +34,50 @@ import java.util.List;
 import java.util.Set;
 
 import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
 
-public class RemoveUnnecessaryLogLevelGuards extends Recipe {
-
-    private static final Set<String> LOGGER_METHODS = new HashSet<>(Arrays.asList("trace", "debug", "info", "warn", "error"));
-    private static final MethodMatcher IS_X_ENABLED = new MethodMatcher("org.slf4j.Logger is*Enabled(..)");
-    private static final MethodMatcher GET_MESSAGE_MATCHER = new MethodMatcher("java.lang.Throwable getMessage()");
+public class RemoveUnnecessaryLogLevelGuards extends ScanningRecipe<TrivialGetters> {
 
     @Getter
     final String displayName = "Remove unnecessary log level guards";
 
     @Getter
-    final String description = "Remove `if` statement guards around SLF4J logging calls when parameterized logging makes them unnecessary.";
+    final String description = "Remove `if` statement guards around SLF4J logging calls when parameterized logging makes them unnecessary. " +
+            "Getters declared in the repository only make a guard unnecessary when they do nothing but return a field or constant.";
 
     @Getter
     final Set<String> tags = new HashSet<>(Arrays.asList("logging", "slf4j"));
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(IS_X_ENABLED), new JavaIsoVisitor<ExecutionContext>() {
+    public TrivialGetters getInitialValue(ExecutionContext ctx) {
+        return new TrivialGetters();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(TrivialGetters trivialGetters) {
+        return trivialGetters.scanner();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(TrivialGetters trivialGetters) {
+        // The same cost model WrapExpensiveLogStatementsInConditionals guards with by default
+        ArgumentCostModel costModel = ArgumentCostModel.DEFAULT.withTrivialGetters(trivialGetters);
+        return Preconditions.check(LoggingUsageIndex.usesMethod("org.slf4j.Logger", "is*Enabled"), new JavaIsoVisitor<ExecutionContext>() {
 
             @Override
             public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
                 J.Block visited = super.visitBlock(block, ctx);
                 return visited.withStatements(ListUtils.flatMap(visited.getStatements(), stmt -> {
-                    if (stmt instanceof J.If && shouldRemoveGuard((J.If) stmt)) {
+                    if (stmt instanceof J.If && LogGuardPolicy.isUnnecessaryGuard((J.If) stmt, costModel)) {
                         J.If ifStmt = (J.If) stmt;
                         String ifStatementWhitespace = ifStmt.getPrefix().getWhitespace();
                         String whitespace = ifStatementWhitespace.substring(ifStatementWhitespace.lastIndexOf('\n'));
-                        List<Statement> bodyStatements = ListUtils.map(extractStatements(ifStmt.getThenPart()), st -> st.withPrefix(Space.build(whitespace, emptyList())));
+                        List<Statement> bodyStatements = ListUtils.map(LogGuardPolicy.thenStatements(ifStmt), st -> st.withPrefix(Space.build(whitespace, emptyList())));
                         return ListUtils.mapFirst(bodyStatements, first -> first.withPrefix(ifStmt.getPrefix()));
                     }
                     return stmt;
 
                 }));
             }
-
-            private boolean shouldRemoveGuard(J.If ifStatement) {
-                if (ifStatement.getElsePart() == null && IS_X_ENABLED.matches(ifStatement.getIfCondition().getTree())) {
-                    List<Statement> statements = extractStatements(ifStatement.getThenPart());
-                    for (Statement stmt : statements) {
-                        if (!(stmt instanceof J.MethodInvocation) ||
-                                !isValidLoggingCall((J.MethodInvocation) stmt)) {
-                            return false;
-                        }
-                    }
-                    return true;
-                }
-                return false;
-            }
-
-            private List<Statement> extractStatements(Statement thenPart) {
-                return thenPart instanceof J.Block ? ((J.Block) thenPart).getStatements() : singletonList(thenPart);
-            }
-
-            private boolean isValidLoggingCall(J.MethodInvocation logCall) {
-                if (!LOGGER_METHODS.contains(logCall.getSimpleName()) ||
-                        logCall.getSelect() == null ||
-                        !TypeUtils.isOfClassType(logCall.getSelect().getType(), "org.slf4j.Logger")) {
-                    return false;
-                }
-                return logCall.getArguments().stream().allMatch(this::isArgumentSafe);
-            }
-
-            private boolean isArgumentSafe(Expression argument) {
-                if (argument instanceof J.Literal || argument instanceof J.Identifier || argument instanceof J.FieldAccess) {
-                    return true;
-                }
-
-                if (argument instanceof J.Parentheses) {
-                    J.Parentheses<?> parens = (J.Parentheses<?>) argument;
-                    if (parens.getTree() instanceof Expression) {
-                        return isArgumentSafe((Expression) parens.getTree());
-                    }
-                    return false;
-                }
-
-                return GET_MESSAGE_MATCHER.matches(argument);
-            }
         });
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.slf4j;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.logging.ArgumentArrayToVarargs;
+import org.openrewrite.java.logging.CatchBlockLogLevel;
+import org.openrewrite.java.logging.ParameterizedLogging;
+import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.staticanalysis.groovy.GroovyFileChecker;
+import org.openrewrite.staticanalysis.kotlin.KotlinFileChecker;
+
+import java.util.*;
+
+/**
+ * Applies the logger invocation level rules of {@code org.openrewrite.java.logging.slf4j.Slf4jBestPractices} in a
+ * single traversal. Every method invocation is classified once, and only logger invocations are handed to the
+ * visitors of {@link ArgumentArrayToVarargs}, {@link Slf4jLogShouldBeConstant},
+ * {@link StringFormatToParameterizedLogging}, {@link MessageFormatToParameterizedLogging},
+ * {@link ParameterizedLogging}, {@link CompleteExceptionLogging} and {@link CatchBlockLogLevel}, in the same order
+ * the composite lists them. Each rule then only walks the invocation rather than the whole compilation unit. Only
+ * blocks assembling a message in a local {@code StringBuilder} or {@code String} before logging it are walked by
+ * {@link ParameterizedLogging} as a whole, after their log statements, to fold the assembly into the message.
+ */
+public class Slf4jLogInvocationBestPractices extends Recipe {
+
+    private static final List<MethodMatcher> LOGGER_METHODS = Arrays.asList(
+            new MethodMatcher("org.slf4j.Logger *(..)", true),
+            new MethodMatcher("org.apache.log4j.Category *(..)", true),
+            new MethodMatcher("org.apache.logging.log4j.Logger *(..)", true),
+            new MethodMatcher("*..Log* *(.., Object[])"));
+
+    @Getter
+    final String displayName = "SLF4J log statement best practices";
+
+    @Getter
+    final String description = "Applies the SLF4J best practices that concern individual log statements in a single pass: " +
+            "unpacking `Object[]` arguments, making messages constant, converting `String.format()`, `MessageFormat.format()` " +
+            "and concatenation to parameterized logging, logging complete exceptions and raising log levels in catch blocks.";
+
+    @Getter
+    final Set<String> tags = new HashSet<>(Arrays.asList("logging", "slf4j"));
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        List<TreeVisitor<?, ExecutionContext>> preconditions = new ArrayList<>();
+        for (MethodMatcher loggerMethod : LOGGER_METHODS) {
+            preconditions.add(new UsesMethod<>(loggerMethod));
+        }
+
+        //noinspection unchecked
+        return Preconditions.check(Preconditions.or(preconditions.toArray(new TreeVisitor[0])), new JavaIsoVisitor<ExecutionContext>() {
+            private final TreeVisitor<?, ExecutionContext> notKotlinOrGroovy = Preconditions.and(
+                    Preconditions.not(new KotlinFileChecker<>()),
+                    Preconditions.not(new GroovyFileChecker<>()));
+            private final TreeVisitor<?, ExecutionContext> argumentArrayToVarargs = new ArgumentArrayToVarargs().getVisitor();
+            private final TreeVisitor<?, ExecutionContext> logShouldBeConstant = new Slf4jLogShouldBeConstant().getVisitor();
+            private final TreeVisitor<?, ExecutionContext> stringFormat = new StringFormatToParameterizedLogging().getVisitor();
+            private final TreeVisitor<?, ExecutionContext> messageFormat = new MessageFormatToParameterizedLogging().getVisitor();
+            private final TreeVisitor<?, ExecutionContext> parameterizedLogging = ParameterizedLogging
+                    .forLevels("org.slf4j.Logger", false, "trace", "debug", "info", "warn", "error").getVisitor();
+            private final TreeVisitor<?, ExecutionContext> completeExceptionLogging = new CompleteExceptionLogging().getVisitor();
+            private final TreeVisitor<?, ExecutionContext> catchBlockLogLevel = new CatchBlockLogLevel().getVisitor();
+
+            // ParameterizedLogging does not apply to Kotlin and Groovy sources, while the other rules do
+            private boolean parameterize;
+
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    parameterize = notKotlinOrGroovy.visit(tree, ctx) != tree;
+                }
+                return super.visit(tree, ctx);
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                if (!isLoggerInvocation(m)) {
+                    return m;
+                }
+
+                Cursor parent = getCursor().getParentOrThrow();
+                J j = (J) argumentArrayToVarargs.visitNonNull(m, ctx, parent);
+                j = apply(logShouldBeConstant, j, ctx, parent);
+                j = applyFormat(stringFormat, j, ctx, parent);
+                j = applyFormat(messageFormat, j, ctx, parent);
+                if (parameterize) {
+                    j = apply(parameterizedLogging, j, ctx, parent);
+                }
+                j = apply(completeExceptionLogging, j, ctx, parent);
+                j = apply(catchBlockLogLevel, j, ctx, parent);
+                return (J.MethodInvocation) j;
+            }
+
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                if (parameterize && ParameterizedLogging.assemblesMessage(b)) {
+                    b = (J.Block) parameterizedLogging.visitNonNull(b, ctx, getCursor().getParentOrThrow());
+                }
+                return b;
+            }
+
+            private boolean isLoggerInvocation(J.MethodInvocation m) {
+                for (MethodMatcher loggerMethod : LOGGER_METHODS) {
+                    if (loggerMethod.matches(m)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            private J apply(TreeVisitor<?, ExecutionContext> visitor, J j, ExecutionContext ctx, Cursor parent) {
+                return j instanceof J.MethodInvocation ? (J) visitor.visitNonNull(j, ctx, parent) : j;
+            }
+
+            /**
+             * The format rules remove the import of the replaced format method once it is no longer used. Their own
+             * after visits only see the invocation, so the import removal is scheduled on the compilation unit here.
+             */
+            private J applyFormat(TreeVisitor<?, ExecutionContext> visitor, J j, ExecutionContext ctx, Cursor parent) {
+                J after = apply(visitor, j, ctx, parent);
+                if (after != j) {
+                    List<Expression> args = ((J.MethodInvocation) j).getArguments();
+                    int formatArgIndex = !args.isEmpty() && TypeUtils.isOfClassType(args.get(0).getType(), "org.slf4j.Marker") ? 1 : 0;
+                    if (formatArgIndex < args.size() && args.get(formatArgIndex) instanceof J.MethodInvocation) {
+                        J.MethodInvocation formatCall = (J.MethodInvocation) args.get(formatArgIndex);
+                        JavaType.Method methodType = formatCall.getMethodType();
+                        if (methodType != null) {
+                            JavaType.FullyQualified declaringType = methodType.getDeclaringType();
+                            if (formatCall.getSelect() == null) {
+                                maybeRemoveImport(declaringType.getFullyQualifiedName() + "." + formatCall.getSimpleName());
+                            } else {
+                                maybeRemoveImport(declaringType);
+                            }
+                        }
+                    }
+                }
+                return after;
+            }
+        });
+    }
+}
@@ -21,29 +21,22 @@ import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
-import org.openrewrite.internal.StringUtils;
 import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.JavaVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.FormatTokens;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class Slf4jLogShouldBeConstant extends Recipe {
 
-    private static final String SLF4J_FORMAT_SPECIFIER = "{}";
-    private static final Pattern SLF4J_FORMAT_SPECIFIER_PATTERN = Pattern.compile("\\{}");
-    private static final Pattern FORMAT_SPECIFIER_PATTERN = Pattern.compile("%[-#+ 0,(\\d+]*[\\d.]*[dfscbBhHn%]");
-    private static final Pattern SIMPLE_FORMAT_SPECIFIER_PATTERN = Pattern.compile("%[dfscbBhHn%]");
-
-    // A regular expression that matches index specifiers like '%2$s', '%1$s', etc.
-    private static final Pattern INDEXED_FORMAT_SPECIFIER_PATTERN = Pattern.compile("%(\\d+\\$)[a-zA-Z]");
+    // Conversions that consume an argument and whose output SLF4J's {} renders the same way
+    private static final String SIMPLE_CONVERSIONS = "dfscbBhH";
     private static final MethodMatcher SLF4J_LOG = new MethodMatcher("org.slf4j.Logger *(..)");
     private static final MethodMatcher STRING_FORMAT = new MethodMatcher("java.lang.String format(..)");
     private static final MethodMatcher STRING_VALUE_OF = new MethodMatcher("java.lang.String valueOf(..)");
@@ -60,7 +53,7 @@ public class Slf4jLogShouldBeConstant extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesMethod<>(SLF4J_LOG), new JavaVisitor<ExecutionContext>() {
+        return Preconditions.check(LoggingUsageIndex.usesMethod("org.slf4j.Logger", "*"), new JavaVisitor<ExecutionContext>() {
             @Override
             public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
                 if (SLF4J_LOG.matches(method)) {
@@ -75,10 +68,13 @@ public class Slf4jLogShouldBeConstant extends Recipe {
                             }
 
                             String strFormat = Objects.requireNonNull(((J.Literal) stringFormat.getArguments().get(0)).getValue()).toString();
-                            if (containsIndexFormatSpecifier(strFormat) || containsCombinedFormatSpecifiers(strFormat) || containsComplexFormatSpecifiers(strFormat)) {
+                            FormatTokens tokens = FormatTokens.printf(strFormat);
+                            if (tokens.contains(FormatTokens.UNSUPPORTED) ||
+                                    (tokens.contains(FormatTokens.SPECIFIER) && tokens.contains(FormatTokens.PLACEHOLDER)) ||
+                                    !tokens.hasOnlySimpleSpecifiers(SIMPLE_CONVERSIONS)) {
                                 return method;
                             }
-                            String updatedStrFormat = replaceFormatSpecifier(strFormat, SLF4J_FORMAT_SPECIFIER);
+                            String updatedStrFormat = tokens.toSlf4jTemplate();
                             List<Expression> stringFormatWithArgs = ListUtils.map(stringFormat.getArguments(), (n, arg) -> {
                                 if (n == 0) {
                                     J.Literal str = (J.Literal) arg;
@@ -111,36 +107,4 @@ public class Slf4jLogShouldBeConstant extends Recipe {
             }
         });
     }
-
-    private boolean containsCombinedFormatSpecifiers(String str) {
-        return FORMAT_SPECIFIER_PATTERN.matcher(str).find() && SLF4J_FORMAT_SPECIFIER_PATTERN.matcher(str).find();
-    }
-
-    private static String replaceFormatSpecifier(String str, String replacement) {
-        if (StringUtils.isNullOrEmpty(str)) {
-            return str;
-        }
-        return FORMAT_SPECIFIER_PATTERN.matcher(str).replaceAll(replacement);
-    }
-
-    private static boolean containsIndexFormatSpecifier(String str) {
-        if (StringUtils.isNullOrEmpty(str)) {
-            return false;
-        }
-        return INDEXED_FORMAT_SPECIFIER_PATTERN.matcher(str).find();
-    }
-
-    private static boolean containsComplexFormatSpecifiers(String str) {
-        if (StringUtils.isNullOrEmpty(str)) {
-            return false;
-        }
-        Matcher matcher = FORMAT_SPECIFIER_PATTERN.matcher(str);
-        while (matcher.find()) {
-            String specifier = matcher.group();
-            if (!SIMPLE_FORMAT_SPECIFIER_PATTERN.matcher(specifier).matches()) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
@@ -19,18 +19,16 @@ import lombok.Getter;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.FormatTokens;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class StringFormatToParameterizedLogging extends AbstractFormatToParameterizedLogging {
 
-    private static final Pattern SIMPLE_FORMAT_SPECIFIER = Pattern.compile("%[sdxofbc]");
-    private static final Pattern COMPLEX_FORMAT_PATTERN = Pattern.compile("%[0-9$+\\-#, (]+[sdxofbc]|%%|%n");
+    private static final String SIMPLE_CONVERSIONS = "sdxofbc";
     private static final MethodMatcher STRING_FORMAT = new MethodMatcher("java.lang.String format(..)");
 
     @Getter
@@ -41,7 +39,7 @@ public class StringFormatToParameterizedLogging extends AbstractFormatToParamete
 
     @Override
     protected TreeVisitor<?, ExecutionContext> getFormatPrecondition() {
-        return new UsesMethod<>(STRING_FORMAT);
+        return LoggingUsageIndex.usesMethod("java.lang.String", "format");
     }
 
     @Override
@@ -50,22 +48,17 @@ public class StringFormatToParameterizedLogging extends AbstractFormatToParamete
     }
 
     @Override
-    protected boolean isValidFormatString(String format) {
-        return !COMPLEX_FORMAT_PATTERN.matcher(format).find();
+    protected FormatTokens tokenize(String format) {
+        return FormatTokens.printf(format);
     }
 
     @Override
-    protected boolean validateArgumentCount(String format, List<Expression> formatArgs) {
-        Matcher matcher = SIMPLE_FORMAT_SPECIFIER.matcher(format);
-        int count = 0;
-        while (matcher.find()) {
-            count++;
-        }
-        return formatArgs.size() == count + 1;
+    protected boolean isValidFormatString(FormatTokens format) {
+        return !format.contains(FormatTokens.UNSUPPORTED) && format.hasOnlySimpleSpecifiers(SIMPLE_CONVERSIONS);
     }
 
     @Override
-    protected String convertToSlf4jTemplate(String format) {
-        return format.replaceAll("%[sdxofbc]", "{}");
+    protected boolean validateArgumentCount(FormatTokens format, List<Expression> formatArgs) {
+        return formatArgs.size() == format.count(FormatTokens.SPECIFIER) + 1;
     }
 }
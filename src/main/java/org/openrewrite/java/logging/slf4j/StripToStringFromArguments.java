@@ -23,7 +23,7 @@ import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.TypeUtils;
 
@@ -44,13 +44,7 @@ public class StripToStringFromArguments extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(Preconditions.or(
-                        new UsesMethod<>(TRACE_MATCHER),
-                        new UsesMethod<>(DEBUG_MATCHER),
-                        new UsesMethod<>(INFO_MATCHER),
-                        new UsesMethod<>(WARN_MATCHER),
-                        new UsesMethod<>(ERROR_MATCHER)
-                ),
+        return Preconditions.check(LoggingUsageIndex.usesMethod("org.slf4j.Logger", "trace", "debug", "info", "warn", "error"),
                 new JavaIsoVisitor<ExecutionContext>() {
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation m, ExecutionContext ctx) {
@@ -15,26 +15,37 @@
  */
 package org.openrewrite.java.logging.slf4j;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.Value;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.*;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.java.*;
-import org.openrewrite.java.search.UsesMethod;
+import org.openrewrite.java.logging.internal.ArgumentCostModel;
+import org.openrewrite.java.logging.internal.LambdaCaptures;
+import org.openrewrite.java.logging.internal.LogGuardPolicy;
+import org.openrewrite.java.logging.internal.LogStatements;
+import org.openrewrite.java.logging.internal.LoggingUsageIndex;
+import org.openrewrite.java.logging.internal.OptimizedLogStatement;
+import org.openrewrite.java.logging.internal.ParserClasspath;
+import org.openrewrite.java.logging.internal.TrivialGetters;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
-import static org.openrewrite.Preconditions.or;
 import static org.openrewrite.Tree.randomId;
 
-public class WrapExpensiveLogStatementsInConditionals extends Recipe {
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class WrapExpensiveLogStatementsInConditionals extends ScanningRecipe<TrivialGetters> {
 
     // Only matching up to INFO, as WARN and ERROR are rarely disabled
     private static final MethodMatcher infoMatcher = new MethodMatcher("org.slf4j.Logger info(..)");
@@ -45,20 +56,88 @@ public class WrapExpensiveLogStatementsInConditionals extends Recipe {
     private static final MethodMatcher isDebugEnabledMatcher = new MethodMatcher("org.slf4j.Logger isDebugEnabled()");
     private static final MethodMatcher isTraceEnabledMatcher = new MethodMatcher("org.slf4j.Logger isTraceEnabled()");
 
-    @Getter
-    final String displayName = "Optimize log statements";
-
-    @Getter
-    final String description = "When trace, debug and info log statements use methods for constructing log messages, " +
+    private static final String FLUENT_API_SUPPORT = WrapExpensiveLogStatementsInConditionals.class.getName() + ".FLUENT_API_SUPPORT";
+    private static final String FLUENT_API_TYPES = WrapExpensiveLogStatementsInConditionals.class.getName() + ".FLUENT_API_TYPES";
+    private static final String SLF4J2_LOGGER_TYPE = WrapExpensiveLogStatementsInConditionals.class.getName() + ".SLF4J2_LOGGER_TYPE";
+    private static final String CHEAP_LOG_STATEMENTS = WrapExpensiveLogStatementsInConditionals.class.getName() + ".CHEAP_LOG_STATEMENTS";
+
+    @Option(displayName = "Use fluent API",
+            description = "Whether to convert log statements to the fluent API (`true`) or to wrap them in if-statements (`false`). " +
+                    "By default the fluent API is used when the logger type provides it, as it does from SLF4J 2.0 onwards.",
+            required = false)
+    @Nullable
+    Boolean useFluentApi;
+
+    @Option(displayName = "Method costs",
+            description = ArgumentCostModel.METHOD_COSTS_DESCRIPTION,
+            required = false,
+            example = "java.util.Arrays toString(..)=10")
+    @Nullable
+    List<String> methodCosts;
+
+    @Option(displayName = "Cost threshold",
+            description = ArgumentCostModel.COST_THRESHOLD_DESCRIPTION,
+            required = false,
+            example = "10")
+    @Nullable
+    Integer costThreshold;
+
+    @Option(displayName = "Guard boxing in loops",
+            description = "Whether to also optimize log statements in loops that box primitive arguments or collect their " +
+                    "arguments in a varargs array, as both allocate even when the log level is disabled. Such statements are " +
+                    "wrapped in if-statements unless the fluent API is explicitly requested, in which case their primitive " +
+                    "arguments are deferred too.",
+            required = false)
+    @Nullable
+    Boolean guardBoxingInLoops;
+
+    String displayName = "Optimize log statements";
+
+    String description = "When trace, debug and info log statements use methods for constructing log messages, " +
             "those methods are called regardless of whether the log level is enabled. " +
             "This recipe optimizes these statements by either wrapping them in if-statements (SLF4J 1.x) " +
-            "or converting them to fluent API calls (SLF4J 2.0+) to ensure expensive methods are only called when necessary.";
+            "or converting them to fluent API calls (SLF4J 2.0+) to ensure expensive methods are only called when necessary. " +
+            "Getters declared in the repository are only considered cheap when they do nothing but return a field or constant.";
+
+    public WrapExpensiveLogStatementsInConditionals() {
+        this(null);
+    }
+
+    public WrapExpensiveLogStatementsInConditionals(@Nullable Boolean useFluentApi) {
+        this(useFluentApi, null, null, null);
+    }
+
+    @JsonCreator
+    public WrapExpensiveLogStatementsInConditionals(@Nullable Boolean useFluentApi, @Nullable List<String> methodCosts,
+                                                    @Nullable Integer costThreshold, @Nullable Boolean guardBoxingInLoops) {
+        this.useFluentApi = useFluentApi;
+        this.methodCosts = methodCosts;
+        this.costThreshold = costThreshold;
+        this.guardBoxingInLoops = guardBoxingInLoops;
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(ArgumentCostModel.validate(methodCosts, costThreshold));
+    }
+
+    @Override
+    public TrivialGetters getInitialValue(ExecutionContext ctx) {
+        return new TrivialGetters();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(TrivialGetters trivialGetters) {
+        return trivialGetters.scanner();
+    }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
+    public TreeVisitor<?, ExecutionContext> getVisitor(TrivialGetters trivialGetters) {
         return Preconditions.check(
-                or(new UsesMethod<>(infoMatcher), new UsesMethod<>(debugMatcher), new UsesMethod<>(traceMatcher)),
-                new OptimizeLogStatementsVisitor());
+                LoggingUsageIndex.usesMethod("org.slf4j.Logger", "info", "debug", "trace"),
+                new OptimizeLogStatementsVisitor(useFluentApi,
+                        ArgumentCostModel.of(methodCosts, costThreshold).withTrivialGetters(trivialGetters),
+                        Boolean.TRUE.equals(guardBoxingInLoops)));
     }
 
 
@@ -66,7 +145,21 @@ private static class OptimizeLogStatementsVisitor extends JavaVisitor<ExecutionC
 
         final Set<UUID> visitedBlocks = new HashSet<>();
 
-        private boolean supportsFluentApi(J.MethodInvocation logMethod) {
+        private final @Nullable Boolean useFluentApi;
+        private final ArgumentCostModel costModel;
+        private final boolean guardBoxingInLoops;
+
+        OptimizeLogStatementsVisitor(@Nullable Boolean useFluentApi, ArgumentCostModel costModel, boolean guardBoxingInLoops) {
+            this.useFluentApi = useFluentApi;
+            this.costModel = costModel;
+            this.guardBoxingInLoops = guardBoxingInLoops;
+        }
+
+        private boolean supportsFluentApi(J.MethodInvocation logMethod, ExecutionContext ctx) {
+            if (useFluentApi != null) {
+                return useFluentApi;
+            }
+
             // Check if the logger type supports fluent API by looking for atInfo/atDebug/atTrace methods
             if (logMethod.getSelect() == null || logMethod.getMethodType() == null) {
                 return false;
@@ -77,11 +170,13 @@ private static class OptimizeLogStatementsVisitor extends JavaVisitor<ExecutionC
                 return false;
             }
 
-            // Check if the logger type has the fluent API methods (introduced in SLF4J 2.0)
-            return loggerType.getMethods().stream()
+            // Check if the logger type has the fluent API methods (introduced in SLF4J 2.0), once per type for the whole run
+            Map<JavaType.FullyQualified, Boolean> fluentApiSupport = ctx.computeMessageIfAbsent(FLUENT_API_SUPPORT,
+                    k -> Collections.synchronizedMap(new IdentityHashMap<>()));
+            return fluentApiSupport.computeIfAbsent(loggerType, type -> type.getMethods().stream()
                     .anyMatch(m -> "atInfo".equals(m.getName()) ||
                                   "atDebug".equals(m.getName()) ||
-                                  "atTrace".equals(m.getName()));
+                                  "atTrace".equals(m.getName())));
         }
 
         @Override
@@ -89,13 +184,26 @@ private static class OptimizeLogStatementsVisitor extends JavaVisitor<ExecutionC
             J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
             if (m.getSelect() != null &&
                     (infoMatcher.matches(m) || debugMatcher.matches(m) || traceMatcher.matches(m)) &&
-                    !isInIfStatementWithLogLevelCheck(getCursor(), m) &&
-                    !isAlreadyUsingFluentApi(getCursor()) &&
-                    isAnyArgumentExpensive(m)) {
+                    OptimizedLogStatement.find(m) == null) {
+                boolean expensive = isAnyArgumentExpensive(m, ctx);
+                // Boxing and varargs arrays only cost enough to matter when the statement runs over and over
+                boolean allocating = !expensive && guardBoxingInLoops &&
+                        LogGuardPolicy.allocatesArguments(m) && isInLoop(getCursor());
+                if (!expensive && !allocating ||
+                        isInIfStatementWithLogLevelCheck(getCursor(), m) ||
+                        isAlreadyUsingFluentApi(getCursor())) {
+                    return m;
+                }
 
                 // Check if we should use fluent API (SLF4J 2.0+) or if-statements (SLF4J 1.x)
-                if (supportsFluentApi(m)) {
-                    return convertToFluentApi(m, ctx);
+                // The fluent API would box the arguments anyway, so it is only used for those when explicitly requested
+                if (allocating ? Boolean.TRUE.equals(useFluentApi) : supportsFluentApi(m, ctx)) {
+                    J.MethodInvocation fluent = convertToFluentApi(m, allocating, ctx);
+                    if (fluent != null) {
+                        return fluent;
+                    }
+                    // The fluent API could not be resolved, or an argument to defer cannot be captured by a lambda,
+                    // such as a loop counter, so guard the statement instead
                 }
                 // Use the traditional if-statement approach for SLF4J 1.x
                 J container = getCursor().getParentTreeCursor().getValue();
@@ -103,11 +211,11 @@ private static class OptimizeLogStatementsVisitor extends JavaVisitor<ExecutionC
                     UUID id = container.getId();
                     J.If if_ = ((J.If) JavaTemplate
                             .builder("if(#{logger:any(org.slf4j.Logger)}.is#{}Enabled()) {}")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "slf4j-api-1.+"))
+                            .javaParser(ParserClasspath.fromResources(ctx, "slf4j-api-1.+"))
                             .build()
                             .apply(getCursor(), m.getCoordinates().replace(),
                                     m.getSelect(), StringUtils.capitalize(m.getSimpleName())))
-                            .withThenPart(m.withPrefix(m.getPrefix().withWhitespace("\n" + m.getPrefix().getWhitespace().replace("\n", ""))))
+                            .withThenPart(OptimizedLogStatement.mark(m, OptimizedLogStatement.Kind.GUARDED).withPrefix(m.getPrefix().withWhitespace("\n" + m.getPrefix().getWhitespace().replace("\n", ""))))
                             .withPrefix(m.getPrefix().withComments(emptyList()));
                     visitedBlocks.add(id);
                     return if_;
@@ -116,79 +224,72 @@ private static class OptimizeLogStatementsVisitor extends JavaVisitor<ExecutionC
             return m;
         }
 
-        private J.MethodInvocation convertToFluentApi(J.MethodInvocation m, ExecutionContext ctx) {
-            String logLevel = m.getSimpleName();
-            String fluentLevel = "at" + StringUtils.capitalize(logLevel);
-
+        /**
+         * @return the log statement using the fluent API, or {@code null} when the fluent API of the logger cannot be
+         * resolved or an argument to defer cannot be captured by a lambda
+         */
+        private J.@Nullable MethodInvocation convertToFluentApi(J.MethodInvocation m, boolean deferBoxing, ExecutionContext ctx) {
             List<Expression> args = m.getArguments();
-            if (!args.isEmpty()) {
-                if (args.size() > 1) {
-                    // First argument is the message template
-                    Expression messageTemplate = args.get(0);
-
-                    // Build fluent API with addArgument() calls for each parameter
-                    StringBuilder templateStr = new StringBuilder();
-                    templateStr.append("#{logger:any(org.slf4j.Logger)}.").append(fluentLevel).append("()");
-
-                    // Add each parameter as an argument
-                    // Use lambda for expensive operations, direct value for cheap ones
-                    List<Object> templateArgs = new ArrayList<>();
-                    //noinspection DataFlowIssue
-                    templateArgs.add(m.getSelect());
-
-                    for (int i = 1; i < args.size(); i++) {
-                        Expression arg = args.get(i);
-                        if (isExpensiveArgument(arg)) {
-                            // Use supplier lambda for expensive operations
-                            templateStr.append(".addArgument(() -> #{any()})");
-                        } else {
-                            // Use direct value for cheap operations
-                            templateStr.append(".addArgument(#{any()})");
-                        }
-                        templateArgs.add(arg);
-                    }
-                    templateStr.append(".log(#{any()})");
-                    templateArgs.add(messageTemplate);
+            FluentApi fluentApi = FluentApi.resolve(m, ctx);
+            JavaType.Method level = fluentApi == null ? null : fluentApi.getLevels().get("at" + StringUtils.capitalize(m.getSimpleName()));
+            if (fluentApi == null || level == null || m.getSelect() == null || args.get(0) instanceof J.Empty) {
+                return null;
+            }
+            for (int i = 0; i < args.size(); i++) {
+                if (isDeferred(args, i, deferBoxing) && !LambdaCaptures.canCapture(args.get(i), getCursor())) {
+                    return null;
+                }
+            }
 
-                    JavaTemplate template = JavaTemplate
-                            .builder(templateStr.toString())
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "slf4j-api-2.+"))
-                            .build();
+            // Add each parameter as an argument
+            // Use a supplier lambda for expensive operations, the value itself for cheap ones
+            Expression chain = LogStatements.invoke(m.getSelect(), level, emptyList());
+            for (int i = 1; i < args.size(); i++) {
+                Expression arg = args.get(i);
+                chain = isDeferred(args, i, deferBoxing) ?
+                        LogStatements.invoke(chain, fluentApi.getAddArgumentSupplier(), singletonList(supplier(arg, fluentApi.getAddArgumentSupplier()))) :
+                        LogStatements.invoke(chain, fluentApi.getAddArgument(), singletonList(arg.withPrefix(Space.EMPTY)));
+            }
 
-                    return template.apply(getCursor(), m.getCoordinates().replace(), templateArgs.toArray());
-                }
-                // Simple case with just a message
-                Expression arg = args.get(0);
-                if (isExpensiveArgument(arg)) {
-                    // Use supplier lambda for expensive message
-                    JavaTemplate template = JavaTemplate
-                            .builder("#{logger:any(org.slf4j.Logger)}.#{}().log(() -> #{any()})")
-                            .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "slf4j-api-2.+"))
-                            .build();
-
-                    //noinspection DataFlowIssue
-                    return template.apply(getCursor(), m.getCoordinates().replace(),
-                            m.getSelect(), fluentLevel, arg);
-                }
-                // Use direct value for cheap message
-                JavaTemplate template = JavaTemplate
-                        .builder("#{logger:any(org.slf4j.Logger)}.#{}().log(#{any()})")
-                        .javaParser(JavaParser.fromJavaVersion().classpathFromResources(ctx, "slf4j-api-2.+"))
-                        .build();
-
-                //noinspection DataFlowIssue
-                return template.apply(getCursor(), m.getCoordinates().replace(),
-                        m.getSelect(), fluentLevel, arg);
+            // The first argument is the message; only a message without arguments is deferred as a whole
+            Expression message = args.get(0);
+            J.MethodInvocation log = isDeferred(args, 0, deferBoxing) ?
+                    LogStatements.invoke(chain, fluentApi.getLogSupplier(), singletonList(supplier(message, fluentApi.getLogSupplier()))) :
+                    LogStatements.invoke(chain, fluentApi.getLog(), singletonList(message.withPrefix(Space.EMPTY)));
+            return OptimizedLogStatement.mark(log.withId(m.getId()).withPrefix(m.getPrefix()).withMarkers(m.getMarkers()),
+                    OptimizedLogStatement.Kind.FLUENT);
+        }
+
+        /**
+         * @return whether the argument at the index is passed to the fluent API as a {@code Supplier}
+         */
+        private boolean isDeferred(List<Expression> args, int index, boolean deferBoxing) {
+            Expression arg = args.get(index);
+            if (index == 0) {
+                return args.size() == 1 && costModel.isExpensive(arg);
             }
-            return m;
+            return costModel.isExpensive(arg) || deferBoxing && LogGuardPolicy.isBoxed(arg);
         }
 
-        private boolean isExpensiveArgument(Expression arg) {
-            return !(arg instanceof J.MethodInvocation && isSimpleGetter((J.MethodInvocation) arg) ||
-                    arg instanceof J.Literal ||
-                    arg instanceof J.Identifier ||
-                    arg instanceof J.FieldAccess ||
-                    arg instanceof J.Binary && isOnlyLiterals((J.Binary) arg));
+        /**
+         * @return {@code () -> body}, typed as the {@code Supplier} parameter of {@code methodType}
+         */
+        private static J.Lambda supplier(Expression body, JavaType.Method methodType) {
+            return LogStatements.supplier(body.withPrefix(Space.EMPTY), methodType.getParameterTypes().get(0));
+        }
+
+        private static boolean isInLoop(Cursor cursor) {
+            for (Cursor c = cursor.getParent(); c != null; c = c.getParent()) {
+                Object value = c.getValue();
+                if (value instanceof J.ForLoop || value instanceof J.ForEachLoop ||
+                        value instanceof J.WhileLoop || value instanceof J.DoWhileLoop) {
+                    return true;
+                }
+                if (value instanceof J.MethodDeclaration || value instanceof J.Lambda || value instanceof J.ClassDeclaration) {
+                    return false;
+                }
+            }
+            return false;
         }
 
         private boolean isAlreadyUsingFluentApi(Cursor cursor) {
@@ -226,60 +327,97 @@ private static class OptimizeLogStatementsVisitor extends JavaVisitor<ExecutionC
                     (traceMatcher.matches(m) && sideEffects.stream().allMatch(e -> e instanceof J.MethodInvocation && isTraceEnabledMatcher.matches((J.MethodInvocation) e)));
         }
 
-        private boolean isAnyArgumentExpensive(J.MethodInvocation m) {
-            return m
-                    .getArguments()
-                    .stream()
-                    .anyMatch(arg ->
-                            !(arg instanceof J.MethodInvocation && isSimpleGetter((J.MethodInvocation) arg) ||
-                                    arg instanceof J.Literal ||
-                                    arg instanceof J.Identifier ||
-                                    arg instanceof J.FieldAccess ||
-                                    arg instanceof J.Binary && isOnlyLiterals((J.Binary) arg))
-                    );
-        }
-
-        private static boolean isSimpleGetter(J.MethodInvocation mi) {
-            if (mi.getMethodType() == null ||
-                    !mi.getMethodType().getParameterNames().isEmpty() ||
-                    mi.getMethodType().hasFlags(Flag.Static) ||
-                    !(mi.getSelect() == null || mi.getSelect() instanceof J.Identifier)) {
+        private boolean isAnyArgumentExpensive(J.MethodInvocation m, ExecutionContext ctx) {
+            // Statements judged cheap are remembered for the whole run, so an unchanged one is not judged again in later cycles
+            // The cost model includes the getters analyzed in this run, as they decide which statements are cheap
+            Map<ArgumentCostModel, Map<J.MethodInvocation, WeakReference<J.MethodInvocation>>> cheapLogStatementsByModel =
+                    ctx.computeMessageIfAbsent(CHEAP_LOG_STATEMENTS, k -> new ConcurrentHashMap<>());
+            Map<J.MethodInvocation, WeakReference<J.MethodInvocation>> cheapLogStatements = cheapLogStatementsByModel
+                    .computeIfAbsent(costModel, model -> Collections.synchronizedMap(new WeakHashMap<>()));
+            WeakReference<J.MethodInvocation> cheap = cheapLogStatements.get(m);
+            if (cheap != null && cheap.get() == m) {
                 return false;
             }
-            // Consider it a simple getter if it follows getter naming convention
-            if ((mi.getSimpleName().startsWith("get") && mi.getSimpleName().length() > 3) ||
-                    (mi.getSimpleName().startsWith("is") && mi.getSimpleName().length() > 2)) {
+            if (LogGuardPolicy.needsGuard(m, costModel)) {
                 return true;
             }
-            // Also consider record component accessors as simple getters
-            return mi.getMethodType().getDeclaringType().getKind() == JavaType.FullyQualified.Kind.Record;
-        }
-
-        private static boolean isOnlyLiterals(J.Binary binary) {
-            return isLiteralOrBinary(binary.getLeft()) && isLiteralOrBinary(binary.getRight());
+            cheapLogStatements.put(m, new WeakReference<>(m));
+            return false;
         }
+    }
 
-        private static boolean isLiteralOrBinary(J expression) {
-            return expression instanceof J.Literal ||
-                    isSimpleBooleanGetter(expression) ||
-                    isBooleanIdentifier(expression) ||
-                    expression instanceof J.Binary && isOnlyLiterals((J.Binary) expression);
+    /**
+     * The SLF4J 2 fluent API methods a chain is built from, resolved once per logger type for the whole run. When the
+     * logger type in the source does not declare them, they are taken from SLF4J 2's own {@code Logger}, which is
+     * parsed once per run.
+     */
+    @Value
+    private static class FluentApi {
+        Map<String, JavaType.Method> levels;
+        JavaType.Method addArgument;
+        JavaType.Method addArgumentSupplier;
+        JavaType.Method log;
+        JavaType.Method logSupplier;
+
+        static @Nullable FluentApi resolve(J.MethodInvocation logMethod, ExecutionContext ctx) {
+            Map<JavaType, Optional<FluentApi>> fluentApis = ctx.computeMessageIfAbsent(FLUENT_API_TYPES,
+                    k -> Collections.synchronizedMap(new IdentityHashMap<>()));
+            JavaType loggerType = logMethod.getMethodType() == null ? JavaType.Unknown.getInstance() :
+                    logMethod.getMethodType().getDeclaringType();
+            Optional<FluentApi> fluentApi = fluentApis.computeIfAbsent(loggerType, type -> Optional.ofNullable(of(type)));
+            if (!fluentApi.isPresent()) {
+                JavaType slf4j2Logger = ctx.computeMessageIfAbsent(SLF4J2_LOGGER_TYPE, k -> parseSlf4j2LoggerType(ctx));
+                fluentApi = fluentApis.computeIfAbsent(slf4j2Logger, type -> Optional.ofNullable(of(type)));
+            }
+            return fluentApi.orElse(null);
         }
 
-        private static boolean isSimpleBooleanGetter(J expression) {
-            if (expression instanceof J.MethodInvocation) {
-                J.MethodInvocation mi = (J.MethodInvocation) expression;
-                return isSimpleGetter(mi) && mi.getMethodType() != null && isTypeBoolean(mi.getMethodType().getReturnType());
+        private static @Nullable FluentApi of(JavaType loggerType) {
+            JavaType.FullyQualified logger = TypeUtils.asFullyQualified(loggerType);
+            if (logger == null) {
+                return null;
             }
-            return false;
+            Map<String, JavaType.Method> levels = new HashMap<>();
+            JavaType.FullyQualified builder = null;
+            for (JavaType.Method method : logger.getMethods()) {
+                if (method.getName().startsWith("at") && method.getParameterTypes().isEmpty()) {
+                    levels.put(method.getName(), method);
+                    builder = TypeUtils.asFullyQualified(method.getReturnType());
+                }
+            }
+            if (builder == null) {
+                return null;
+            }
+            JavaType.Method addArgument = method(builder, "addArgument", "java.lang.Object");
+            JavaType.Method addArgumentSupplier = method(builder, "addArgument", "java.util.function.Supplier");
+            JavaType.Method log = method(builder, "log", "java.lang.String");
+            JavaType.Method logSupplier = method(builder, "log", "java.util.function.Supplier");
+            if (addArgument == null || addArgumentSupplier == null || log == null || logSupplier == null) {
+                return null;
+            }
+            return new FluentApi(levels, addArgument, addArgumentSupplier, log, logSupplier);
         }
 
-        private static boolean isBooleanIdentifier(J expression) {
-            return expression instanceof J.Identifier && isTypeBoolean(((J.Identifier) expression).getType());
+        private static JavaType.@Nullable Method method(JavaType.FullyQualified type, String name, String parameterType) {
+            for (JavaType.Method method : type.getMethods()) {
+                if (name.equals(method.getName()) && method.getParameterTypes().size() == 1 &&
+                        TypeUtils.isOfClassType(method.getParameterTypes().get(0), parameterType)) {
+                    return method;
+                }
+            }
+            return null;
         }
 
-        private static boolean isTypeBoolean(@Nullable JavaType type) {
-            return type == JavaType.Primitive.Boolean || TypeUtils.isAssignableTo("java.lang.Boolean", type);
+        private static JavaType parseSlf4j2LoggerType(ExecutionContext ctx) {
+            return ParserClasspath.fromResources(ctx, "slf4j-api-2.+")
+                    .build()
+                    .parse(ctx, "class Slf4j2Logger { org.slf4j.Logger logger; }")
+                    .findFirst()
+                    .filter(J.CompilationUnit.class::isInstance)
+                    .map(cu -> ((J.CompilationUnit) cu).getClasses().get(0).getBody().getStatements().get(0))
+                    .filter(J.VariableDeclarations.class::isInstance)
+                    .map(variable -> ((J.VariableDeclarations) variable).getType())
+                    .orElse(JavaType.Unknown.getInstance());
         }
     }
 
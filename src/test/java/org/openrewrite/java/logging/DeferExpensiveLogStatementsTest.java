@@ -0,0 +1,329 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Validated;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class DeferExpensiveLogStatementsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new DeferExpensiveLogStatements())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(),
+              "commons-logging-1.3.+", "jboss-logging", "slf4j-api-2", "log4j-api-2.+"));
+    }
+
+    @DocumentExample
+    @Test
+    void deferEachFrameworkInItsOwnWay() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.logging.Log;
+              import org.jboss.logging.Logger;
+
+              class Test {
+                  void test(Log log, Logger logger, System.Logger systemLogger) {
+                      log.debug("State: " + describe());
+                      logger.debugf("State: %s", describe());
+                      systemLogger.log(System.Logger.Level.DEBUG, "State: " + describe());
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """,
+            """
+              import org.apache.commons.logging.Log;
+              import org.jboss.logging.Logger;
+
+              class Test {
+                  void test(Log log, Logger logger, System.Logger systemLogger) {
+                      if (log.isDebugEnabled()) {
+                          log.debug("State: " + describe());
+                      }
+                      if (logger.isDebugEnabled()) {
+                          logger.debugf("State: %s", describe());
+                      }
+                      systemLogger.log(System.Logger.Level.DEBUG, () -> "State: " + describe());
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void optimizeMixedFrameworksInOneRun() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Slf4j {
+                  void test(Logger logger) {
+                      logger.info("Result: {}", calculateResult());
+                  }
+
+                  String calculateResult() {
+                      return "result";
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class Slf4j {
+                  void test(Logger logger) {
+                      logger.atInfo().addArgument(() -> calculateResult()).log("Result: {}");
+                  }
+
+                  String calculateResult() {
+                      return "result";
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Log4j {
+                  void test(Logger logger) {
+                      logger.debug("Result: {}", calculateResult());
+                  }
+
+                  String calculateResult() {
+                      return "result";
+                  }
+              }
+              """,
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Log4j {
+                  void test(Logger logger) {
+                      logger.debug("Result: {}", () -> calculateResult());
+                  }
+
+                  String calculateResult() {
+                      return "result";
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import java.util.logging.Logger;
+
+              class Jul {
+                  void test(Logger logger) {
+                      logger.fine("Result: " + calculateResult());
+                  }
+
+                  String calculateResult() {
+                      return "result";
+                  }
+              }
+              """,
+            """
+              import java.util.logging.Logger;
+
+              class Jul {
+                  void test(Logger logger) {
+                      logger.fine(() -> "Result: " + calculateResult());
+                  }
+
+                  String calculateResult() {
+                      return "result";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepCheapAndGuardedStatements() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.logging.Log;
+              import org.jboss.logging.Logger;
+
+              class Test {
+                  void test(Log log, Logger logger, System.Logger systemLogger, String name) {
+                      log.debug(name);
+                      log.warn("State: " + describe());
+                      if (logger.isTraceEnabled()) {
+                          logger.tracef("State: %s", describe());
+                      }
+                      systemLogger.log(System.Logger.Level.DEBUG, "Processing {0}", name);
+                      systemLogger.log(System.Logger.Level.ERROR, "State: " + describe());
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepSystemLoggerMessagesInLevelChecks() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  void test(System.Logger systemLogger) {
+                      if (systemLogger.isLoggable(System.Logger.Level.DEBUG)) {
+                          systemLogger.log(System.Logger.Level.DEBUG, "State: " + describe());
+                      }
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void guardStatementsOutsideTheThenPartOfTheirOwnLoggersCheck() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.logging.Log;
+
+              class Test {
+                  void test(Log log, Log audit) {
+                      if (audit.isDebugEnabled()) {
+                          log.debug("State: " + describe());
+                      } else {
+                          audit.debug("State: " + describe());
+                      }
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """,
+            """
+              import org.apache.commons.logging.Log;
+
+              class Test {
+                  void test(Log log, Log audit) {
+                      if (audit.isDebugEnabled()) {
+                          if (log.isDebugEnabled()) {
+                              log.debug("State: " + describe());
+                          }
+                      } else {
+                          if (audit.isDebugEnabled()) {
+                              audit.debug("State: " + describe());
+                          }
+                      }
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void guardStatementsInChecksOfAnotherLevel() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.commons.logging.Log;
+
+              class Test {
+                  void test(Log log) {
+                      if (log.isInfoEnabled()) {
+                          log.debug("State: " + describe());
+                      }
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """,
+            """
+              import org.apache.commons.logging.Log;
+
+              class Test {
+                  void test(Log log) {
+                      if (log.isInfoEnabled()) {
+                          if (log.isDebugEnabled()) {
+                              log.debug("State: " + describe());
+                          }
+                      }
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void reportMalformedCostsAsValidationFailures() {
+        assertThat(new DeferExpensiveLogStatements(List.of("java.util.Arrays toString(..)=10"), 5).validate().isValid()).isTrue();
+
+        Validated<Object> validated = new DeferExpensiveLogStatements(
+          List.of("java.util.Arrays toString(..)", "java.util.Arrays toString(..)=ten"), 0).validate();
+        assertThat(validated.failures())
+          .extracting(Validated.Invalid::getProperty)
+          .containsExactly("costThreshold", "methodCosts", "methodCosts");
+    }
+}
@@ -22,8 +22,12 @@ import org.openrewrite.Issue;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.kotlin.KotlinParser;
 import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.test.RewriteTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 import static org.openrewrite.kotlin.Assertions.kotlin;
 
@@ -73,6 +77,80 @@ class ParameterizedLoggingTest implements RewriteTest {
         );
     }
 
+    @Test
+    void attributeParameterizedStatementWithMatchingOverload() {
+        rewriteRun(
+          spec -> spec.recipe(new ParameterizedLogging("org.slf4j.Logger info(..)", false)),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  static void method(Logger logger, String name, int age) {
+                      logger.info("Hello " + name + ", you are " + age);
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  static void method(Logger logger, String name, int age) {
+                      logger.info("Hello {}, you are {}", name, age);
+                  }
+              }
+              """,
+            spec -> spec.afterRecipe(cu -> {
+                J.MethodDeclaration method = (J.MethodDeclaration) cu.getClasses().get(0).getBody().getStatements().get(0);
+                //noinspection DataFlowIssue
+                J.MethodInvocation info = (J.MethodInvocation) method.getBody().getStatements().get(0);
+                JavaType.Method methodType = info.getMethodType();
+                assertThat(methodType).isNotNull();
+                assertThat(methodType.getParameterTypes()).hasSize(3);
+                assertThat(TypeUtils.isString(methodType.getParameterTypes().get(0))).isTrue();
+                assertThat(TypeUtils.isObject(methodType.getParameterTypes().get(1))).isTrue();
+                assertThat(TypeUtils.isObject(methodType.getParameterTypes().get(2))).isTrue();
+                assertThat(info.getName().getType()).isSameAs(methodType);
+            })
+          )
+        );
+    }
+
+    @Test
+    void multipleLevelsInOnePass() {
+        rewriteRun(
+          spec -> spec.recipe(ParameterizedLogging.forLevels("org.slf4j.Logger", false, "debug", "info", "warn")),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  static void method(Logger logger, String name) {
+                      logger.debug("Debug " + name);
+                      logger.info("Info " + name);
+                      logger.warn("Warn " + name);
+                      logger.error("Error " + name);
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  static void method(Logger logger, String name) {
+                      logger.debug("Debug {}", name);
+                      logger.info("Info {}", name);
+                      logger.warn("Warn {}", name);
+                      logger.error("Error " + name);
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @SuppressWarnings("UnnecessaryToStringCall")
     @Test
     void noNeedToCallToStringOnParameterizedArgument() {
@@ -1141,4 +1219,190 @@ class ParameterizedLoggingTest implements RewriteTest {
             )
         );
     }
+
+    @Test
+    void foldStringBuilderAssembledMessage() {
+        rewriteRun(
+          spec -> spec.recipe(ParameterizedLogging.forLevels("org.slf4j.Logger", false, "debug", "info")),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void method(Logger logger, String user, int id) {
+                      StringBuilder sb = new StringBuilder();
+                      sb.append("user=").append(user);
+                      sb.append(", id=").append(id);
+                      logger.debug(sb.toString());
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void method(Logger logger, String user, int id) {
+                      logger.debug("user={}, id={}", user, id);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void foldConcatAndAccumulatedMessages() {
+        rewriteRun(
+          spec -> spec.recipe(ParameterizedLogging.forLevels("org.slf4j.Logger", false, "debug", "info")),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void method(Logger logger, String user, int id) {
+                      logger.info("user=".concat(user));
+                      String message = "id=" + id;
+                      message += ", user=" + user;
+                      logger.debug(message);
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void method(Logger logger, String user, int id) {
+                      logger.info("user={}", user);
+                      logger.debug("id={}, user={}", id, user);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepBuildersUsedBeyondOneLogStatement() {
+        rewriteRun(
+          spec -> spec.recipe(ParameterizedLogging.forLevels("org.slf4j.Logger", false, "debug", "info")),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  String method(Logger logger, String[] users) {
+                      StringBuilder sb = new StringBuilder();
+                      sb.append("users=").append(users.length);
+                      logger.debug(sb.toString());
+                      sb.append("!");
+                      StringBuilder all = new StringBuilder();
+                      for (String user : users) {
+                          all.append(user);
+                      }
+                      logger.info(all.toString());
+                      return sb.toString();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void longConcatenationChain() {
+        StringBuilder concatenation = new StringBuilder("\"start\"");
+        StringBuilder message = new StringBuilder("start");
+        StringBuilder arguments = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            concatenation.append(" + \" \" + name");
+            message.append(" {}");
+            arguments.append(", name");
+        }
+        rewriteRun(
+          spec -> spec.recipe(new ParameterizedLogging("org.slf4j.Logger info(..)", false)),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  static void method(Logger logger, String name) {
+                      logger.info(%s);
+                  }
+              }
+              """.formatted(concatenation),
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  static void method(Logger logger, String name) {
+                      logger.info("%s"%s);
+                  }
+              }
+              """.formatted(message, arguments)
+          )
+        );
+    }
+
+    @Test
+    void keepAdditionOfNumbersAsOneArgument() {
+        rewriteRun(
+          spec -> spec.recipe(new ParameterizedLogging("org.slf4j.Logger info(..)", false)),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  static void method(Logger logger, int shipped, int pending) {
+                      logger.info(shipped + pending + " orders");
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  static void method(Logger logger, int shipped, int pending) {
+                      logger.info("{} orders", shipped + pending);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepComparisonsAsOneArgument() {
+        rewriteRun(
+          spec -> spec.recipe(ParameterizedLogging.forLevels("org.slf4j.Logger", false, "debug")),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void method(Logger logger, String user, int id, int owner) {
+                      StringBuilder sb = new StringBuilder();
+                      sb.append("user=").append(user);
+                      sb.append(", owner=").append(id == owner);
+                      logger.debug(sb.toString());
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void method(Logger logger, String user, int id, int owner) {
+                      logger.debug("user={}, owner={}", user, id == owner);
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -20,9 +20,11 @@ import org.openrewrite.DocumentExample;
 import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.Issue;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.logging.internal.JavaTemplateCache;
 import org.openrewrite.test.RewriteTest;
 import org.openrewrite.test.TypeValidation;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 @SuppressWarnings({"EmptyTryBlock", "CallToPrintStackTrace"})
@@ -464,4 +466,50 @@ class PrintStackTraceToLogErrorTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void reusesErrorTemplateAcrossCallSites() {
+        InMemoryExecutionContext ctx = new InMemoryExecutionContext();
+        rewriteRun(
+          spec -> spec.recipe(new PrintStackTraceToLogError(null, "LOGGER", null))
+            .executionContext(ctx)
+            .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "slf4j-api-2")),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+              class Test {
+                  Logger logger;
+
+                  void test() {
+                      try {
+                      } catch(Throwable t) {
+                          t.printStackTrace();
+                          t.printStackTrace();
+                          t.printStackTrace();
+                      }
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+              class Test {
+                  Logger logger;
+
+                  void test() {
+                      try {
+                      } catch(Throwable t) {
+                          logger.error("Exception", t);
+                          logger.error("Exception", t);
+                          logger.error("Exception", t);
+                      }
+                  }
+              }
+              """
+          )
+        );
+        JavaTemplateCache cache = JavaTemplateCache.get(ctx);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(2);
+    }
 }
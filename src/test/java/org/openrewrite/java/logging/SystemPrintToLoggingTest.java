@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+@SuppressWarnings({"EmptyTryBlock", "CallToPrintStackTrace"})
+class SystemPrintToLoggingTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.parser(JavaParser.fromJavaVersion()
+          .classpathFromResources(new InMemoryExecutionContext(), "slf4j-api-2"));
+    }
+
+    @Test
+    void errorLevelForStandardOutAndStandardError() {
+        rewriteRun(
+          spec -> spec.recipe(new SystemPrintToLogging(null, "logger", null, "error")),
+          // language=java
+          java(
+            """
+              import org.slf4j.Logger;
+              class Test {
+                  Logger logger;
+
+                  void test() {
+                      try {
+                      } catch(Throwable t) {
+                          System.err.println("Failed");
+                          t.printStackTrace();
+                      }
+                      System.out.println("Done");
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+              class Test {
+                  Logger logger;
+
+                  void test() {
+                      try {
+                      } catch(Throwable t) {
+                          logger.error("Failed", t);
+                      }
+                      logger.error("Done");
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.Arrays;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.SourceSpecs.text;
+
+class UsesLoggingTypesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UsesLoggingTypes(Arrays.asList("org.apache.log4j..*", "lombok.extern..*")))
+          .parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
+            "log4j-1",
+            "slf4j-api-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void findsJavaSourcesUsingMatchingTypes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.apache.log4j.Logger;
+
+              class Test {
+                  private static final Logger LOGGER = Logger.getLogger(Test.class);
+              }
+              """,
+            """
+              /*~~>*/import org.apache.log4j.Logger;
+
+              class Test {
+                  private static final Logger LOGGER = Logger.getLogger(Test.class);
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipsJavaSourcesUsingOtherTypes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+              import org.slf4j.LoggerFactory;
+
+              class Test {
+                  private static final Logger LOGGER = LoggerFactory.getLogger(Test.class);
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class Plain {
+                  String name() {
+                      return "plain";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void alwaysFindsOtherSourceFiles() {
+        rewriteRun(
+          text(
+            "log4j.rootLogger=INFO, stdout",
+            "~~>log4j.rootLogger=INFO, stdout",
+            spec -> spec.path("log4j.properties")
+          )
+        );
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormatTokensTest {
+
+    @Test
+    void lineSeparatorAndPercentAreSimpleSpecifiersOfTheirOwn() {
+        FormatTokens tokens = FormatTokens.printf("a%nb%%c");
+
+        assertThat(tokens.size()).isEqualTo(2);
+        assertThat(tokens.kind(0)).isEqualTo(FormatTokens.SPECIFIER);
+        assertThat(tokens.start(0)).isEqualTo(1);
+        assertThat(tokens.end(0)).isEqualTo(3);
+        assertThat(tokens.conversion(0)).isEqualTo('n');
+        assertThat(tokens.isSimple(0)).isTrue();
+        assertThat(tokens.isIndexed(0)).isFalse();
+        assertThat(tokens.kind(1)).isEqualTo(FormatTokens.SPECIFIER);
+        assertThat(tokens.start(1)).isEqualTo(4);
+        assertThat(tokens.end(1)).isEqualTo(6);
+        assertThat(tokens.conversion(1)).isEqualTo('%');
+        assertThat(tokens.isSimple(1)).isTrue();
+
+        // Neither takes an argument, so a message with them is not turned into an SLF4J template
+        assertThat(tokens.hasOnlySimpleSpecifiers("s")).isFalse();
+    }
+
+    @Test
+    void relativeIndexRefersToThePreviousArgument() {
+        FormatTokens tokens = FormatTokens.printf("%s then %<s");
+
+        assertThat(tokens.size()).isEqualTo(2);
+        assertThat(tokens.isSimple(0)).isTrue();
+        assertThat(tokens.isIndexed(0)).isFalse();
+        assertThat(tokens.kind(1)).isEqualTo(FormatTokens.SPECIFIER);
+        assertThat(tokens.start(1)).isEqualTo(8);
+        assertThat(tokens.end(1)).isEqualTo(11);
+        assertThat(tokens.conversion(1)).isEqualTo('s');
+        assertThat(tokens.isSimple(1)).isFalse();
+        assertThat(tokens.isIndexed(1)).isTrue();
+        assertThat(tokens.hasOnlySimpleSpecifiers("s")).isFalse();
+        assertThat(tokens.toSlf4jTemplate()).isEqualTo("{} then {}");
+    }
+
+    @Test
+    void dateTimeAndExplicitIndexAreNotSimple() {
+        FormatTokens tokens = FormatTokens.printf("%tY-%2$s");
+
+        assertThat(tokens.size()).isEqualTo(2);
+        assertThat(tokens.kind(0)).isEqualTo(FormatTokens.SPECIFIER);
+        assertThat(tokens.start(0)).isEqualTo(0);
+        assertThat(tokens.end(0)).isEqualTo(3);
+        assertThat(tokens.conversion(0)).isEqualTo('Y');
+        assertThat(tokens.isSimple(0)).isFalse();
+        assertThat(tokens.isIndexed(0)).isFalse();
+        assertThat(tokens.start(1)).isEqualTo(4);
+        assertThat(tokens.end(1)).isEqualTo(8);
+        assertThat(tokens.conversion(1)).isEqualTo('s');
+        assertThat(tokens.isSimple(1)).isFalse();
+        assertThat(tokens.isIndexed(1)).isTrue();
+        assertThat(tokens.toSlf4jTemplate()).isEqualTo("{}-{}");
+    }
+
+    @Test
+    void argumentWithFormatTypeIsUnsupported() {
+        FormatTokens tokens = FormatTokens.messageFormat("{0} is {0,number}");
+
+        assertThat(tokens.size()).isEqualTo(2);
+        assertThat(tokens.kind(0)).isEqualTo(FormatTokens.ARGUMENT);
+        assertThat(tokens.start(0)).isEqualTo(0);
+        assertThat(tokens.end(0)).isEqualTo(3);
+        assertThat(tokens.argumentIndex(0)).isEqualTo(0);
+        assertThat(tokens.kind(1)).isEqualTo(FormatTokens.UNSUPPORTED);
+        assertThat(tokens.start(1)).isEqualTo(7);
+        assertThat(tokens.end(1)).isEqualTo(17);
+        assertThat(tokens.toSlf4jTemplate()).isEqualTo("{} is {0,number}");
+    }
+
+    @Test
+    void argumentIndexOverflowingIntIsUnsupported() {
+        FormatTokens tokens = FormatTokens.messageFormat("{2147483647} {2147483648} {99999999999999999999} {1}");
+
+        assertThat(tokens.size()).isEqualTo(4);
+        assertThat(tokens.kind(0)).isEqualTo(FormatTokens.ARGUMENT);
+        assertThat(tokens.argumentIndex(0)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(tokens.kind(1)).isEqualTo(FormatTokens.UNSUPPORTED);
+        assertThat(tokens.start(1)).isEqualTo(13);
+        assertThat(tokens.end(1)).isEqualTo(25);
+        assertThat(tokens.kind(2)).isEqualTo(FormatTokens.UNSUPPORTED);
+        assertThat(tokens.start(2)).isEqualTo(26);
+        assertThat(tokens.end(2)).isEqualTo(48);
+        assertThat(tokens.kind(3)).isEqualTo(FormatTokens.ARGUMENT);
+        assertThat(tokens.argumentIndex(3)).isEqualTo(1);
+        assertThat(tokens.toSlf4jTemplate()).isEqualTo("{} {2147483648} {99999999999999999999} {}");
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Cursor;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StructuralEquivalenceTest {
+
+    @Test
+    void equalWhenNodesAndWhitespaceMatch() {
+        J.MethodInvocation before = logStatement("logger.info(\"Hello \" + name);");
+        J.MethodInvocation after = logStatement("logger.info(\"Hello \" + name);");
+
+        assertThat(StructuralEquivalence.compare(before, after)).isEqualTo(StructuralEquivalence.Result.EQUAL);
+        assertThat(StructuralEquivalence.printsEqual(before, after, root())).isTrue();
+    }
+
+    @Test
+    void differentWhenALiteralDiffers() {
+        J.MethodInvocation before = logStatement("logger.info(\"Hello \" + name);");
+        J.MethodInvocation after = logStatement("logger.info(\"Hello {}\", name);");
+
+        assertThat(StructuralEquivalence.compare(before, after)).isEqualTo(StructuralEquivalence.Result.DIFFERENT);
+        assertThat(StructuralEquivalence.printsEqual(before, after, root())).isFalse();
+    }
+
+    @Test
+    void differentWhenOnlyWhitespaceDiffers() {
+        J.MethodInvocation before = logStatement("logger.info(\"Hello \" + name);");
+        J.MethodInvocation after = logStatement("logger.info(\"Hello \"+name);");
+
+        assertThat(StructuralEquivalence.compare(before, after)).isEqualTo(StructuralEquivalence.Result.DIFFERENT);
+        assertThat(StructuralEquivalence.printsEqual(before, after, root())).isFalse();
+    }
+
+    @Test
+    void undecidedCommentsFallBackToPrintingEqual() {
+        J.MethodInvocation before = logStatement("logger.info(/* greeting */ \"Hello \" + name);");
+        J.MethodInvocation after = logStatement("logger.info(/* greeting */ \"Hello \" + name);");
+
+        assertThat(StructuralEquivalence.compare(before, after)).isEqualTo(StructuralEquivalence.Result.UNDECIDED);
+        assertThat(StructuralEquivalence.printsEqual(before, after, root())).isTrue();
+    }
+
+    @Test
+    void undecidedCommentsFallBackToPrintingDifferent() {
+        J.MethodInvocation before = logStatement("logger.info(/* greeting */ \"Hello \" + name);");
+        J.MethodInvocation after = logStatement("logger.info(/* farewell */ \"Hello \" + name);");
+
+        assertThat(StructuralEquivalence.compare(before, after)).isEqualTo(StructuralEquivalence.Result.UNDECIDED);
+        assertThat(StructuralEquivalence.printsEqual(before, after, root())).isFalse();
+    }
+
+    @Test
+    void undecidedShapesFallBackToPrinting() {
+        J.MethodInvocation before = logStatement("logger.info(name.isEmpty() ? \"none\" : name);");
+        J.MethodInvocation after = logStatement("logger.info(name.isEmpty() ? \"none\" : name);");
+
+        assertThat(StructuralEquivalence.compare(before, after)).isEqualTo(StructuralEquivalence.Result.UNDECIDED);
+        assertThat(StructuralEquivalence.printsEqual(before, after, root())).isTrue();
+    }
+
+    private static J.MethodInvocation logStatement(String statement) {
+        J.CompilationUnit cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build()
+          .parse(new InMemoryExecutionContext(), """
+            class Test {
+                void test(java.util.logging.Logger logger, String name) {
+                    %s
+                }
+            }
+            """.formatted(statement))
+          .findFirst()
+          .orElseThrow();
+        J.MethodDeclaration method = (J.MethodDeclaration) cu.getClasses().get(0).getBody().getStatements().get(0);
+        //noinspection DataFlowIssue
+        return (J.MethodInvocation) method.getBody().getStatements().get(0);
+    }
+
+    private static Cursor root() {
+        return new Cursor(null, Cursor.ROOT_VALUE);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.jul;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.openrewrite.java.Assertions.java;
+
+class DeferExpensiveLogMessagesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new DeferExpensiveLogMessages());
+    }
+
+    @DocumentExample
+    @Test
+    void deferConcatenatedAndComputedMessages() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class Test {
+                  void test(Logger logger, String name, Exception e) {
+                      logger.fine("Processing " + name);
+                      logger.config(describe());
+                      logger.log(Level.FINER, "State: " + describe());
+                      logger.log(Level.WARNING, "Failed " + name, e);
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """,
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class Test {
+                  void test(Logger logger, String name, Exception e) {
+                      logger.fine(() -> "Processing " + name);
+                      logger.config(() -> describe());
+                      logger.log(Level.FINER, () -> "State: " + describe());
+                      logger.log(Level.WARNING, e, () -> "Failed " + name);
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepCheapMessages() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class Test {
+                  void test(Logger logger, String name, Exception e) {
+                      logger.fine("Processing");
+                      logger.info(name);
+                      logger.finest("Processing " + "items");
+                      logger.log(Level.FINE, e.getMessage());
+                      logger.warning("Processing " + name);
+                      logger.log(Level.FINE, "Processing {0}", name);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMessagesReadingReassignedLocals() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.logging.Logger;
+
+              class Test {
+                  void test(Logger logger, String[] names) {
+                      for (int i = 0; i < names.length; i++) {
+                          logger.fine("Name " + i + " is " + names[i]);
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void deferConcatenationsBelowCostThreshold() {
+        rewriteRun(
+          spec -> spec.recipe(new DeferExpensiveLogMessages(List.of("java.util.Arrays toString(..)=10"), 10)),
+          //language=java
+          java(
+            """
+              import java.util.Arrays;
+              import java.util.logging.Logger;
+
+              class Test {
+                  void test(Logger logger, String name, int[] values) {
+                      logger.fine(name.trim());
+                      logger.fine(Arrays.toString(values));
+                      logger.fine("Name " + name);
+                  }
+              }
+              """,
+            """
+              import java.util.Arrays;
+              import java.util.logging.Logger;
+
+              class Test {
+                  void test(Logger logger, String name, int[] values) {
+                      logger.fine(name.trim());
+                      logger.fine(() -> Arrays.toString(values));
+                      logger.fine(() -> "Name " + name);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepMessagesInLevelChecks() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class Test {
+                  void test(Logger logger, String name) {
+                      if (logger.isLoggable(Level.FINE)) {
+                          logger.fine("Processing " + name);
+                          logger.log(Level.FINE, "State: " + describe());
+                      }
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void deferMessagesInChecksOfAnotherLevel() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class Test {
+                  void test(Logger logger, String name) {
+                      if (logger.isLoggable(Level.INFO)) {
+                          logger.fine("Processing " + name);
+                          logger.log(Level.FINE, "State: " + describe());
+                      }
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """,
+            """
+              import java.util.logging.Level;
+              import java.util.logging.Logger;
+
+              class Test {
+                  void test(Logger logger, String name) {
+                      if (logger.isLoggable(Level.INFO)) {
+                          logger.fine(() -> "Processing " + name);
+                          logger.log(Level.FINE, () -> "State: " + describe());
+                      }
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.log4j;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import java.util.List;
+
+import static org.openrewrite.java.Assertions.java;
+
+class DeferExpensiveLogArgumentsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new DeferExpensiveLogArguments())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "log4j-api-2.+"));
+    }
+
+    @DocumentExample
+    @Test
+    void deferExpensiveParameters() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, String name) {
+                      logger.debug("User {} has {} orders", name, countOrders(name));
+                  }
+
+                  int countOrders(String name) {
+                      return name.length();
+                  }
+              }
+              """,
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, String name) {
+                      logger.debug("User {} has {} orders", () -> name, () -> countOrders(name));
+                  }
+
+                  int countOrders(String name) {
+                      return name.length();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void deferExpensiveMessages() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, Exception e) {
+                      logger.trace(describe());
+                      logger.info(describe(), e);
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """,
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, Exception e) {
+                      logger.trace(() -> describe());
+                      logger.info(() -> describe(), e);
+                  }
+
+                  String describe() {
+                      return "state";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepCheapArgumentsAndHigherLevels() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, String name, Exception e) {
+                      logger.debug("User {} failed: {}", name, e.getMessage());
+                      logger.warn("User {} has {} orders", name, name.length());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepArgumentsReadingReassignedLocals() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, String[] names) {
+                      for (int i = 0; i < names.length; i++) {
+                          logger.debug("Name {} is {}", i, names[i].trim());
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyDeferArgumentsReachingCostThreshold() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new DeferExpensiveLogArguments(List.of("java.util.Arrays toString(..)=10"), 10)),
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              import java.util.Arrays;
+
+              class Test {
+                  void test(Logger logger, String name, int[] values) {
+                      logger.debug("{} has {}", name.trim(), Arrays.toString(values));
+                      logger.debug("{} has {}", name.trim(), values.length);
+                  }
+              }
+              """,
+            """
+              import org.apache.logging.log4j.Logger;
+
+              import java.util.Arrays;
+
+              class Test {
+                  void test(Logger logger, String name, int[] values) {
+                      logger.debug("{} has {}", () -> name.trim(), () -> Arrays.toString(values));
+                      logger.debug("{} has {}", name.trim(), values.length);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepStatementsInLevelChecks() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, String name) {
+                      if (logger.isDebugEnabled()) {
+                          logger.debug("User {} has {} orders", name, countOrders(name));
+                      }
+                  }
+
+                  int countOrders(String name) {
+                      return name.length();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.log4j;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseUnboxForPrimitiveArgumentsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseUnboxForPrimitiveArguments())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "log4j-api-2.+"));
+    }
+
+    @DocumentExample
+    @Test
+    void boxPrimitiveArguments() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, String name, int count, long total, boolean done) {
+                      logger.info("{} processed {} of {}, done: {}", name, count, total, done);
+                  }
+              }
+              """,
+            """
+              import org.apache.logging.log4j.Logger;
+              import org.apache.logging.log4j.util.Unbox;
+
+              class Test {
+                  void test(Logger logger, String name, int count, long total, boolean done) {
+                      logger.info("{} processed {} of {}, done: {}", name, Unbox.box(count), Unbox.box(total), done);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void unrollArgumentArray() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.apache.logging.log4j.Level;
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, String name, double ratio) {
+                      logger.debug("{} at {}", new Object[]{name, ratio});
+                      logger.log(Level.WARN, "{} at {}", new Object[]{name, ratio});
+                  }
+              }
+              """,
+            """
+              import org.apache.logging.log4j.Level;
+              import org.apache.logging.log4j.Logger;
+              import org.apache.logging.log4j.util.Unbox;
+
+              class Test {
+                  void test(Logger logger, String name, double ratio) {
+                      logger.debug("{} at {}", name, Unbox.box(ratio));
+                      logger.log(Level.WARN, "{} at {}", name, Unbox.box(ratio));
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepArraysThatWouldResolveToAnotherOverload() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, Exception e) {
+                      logger.error("Failed: {}", new Object[]{e});
+                      logger.error("Failed: {}", new Object[]{null});
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipMessagesAndFormatterLoggers() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  void test(Logger logger, Logger formatterLogger, String name, int count) {
+                      logger.info(count);
+                      logger.info(name);
+                      formatterLogger.info("%s has %d entries", name, count);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipMessagesThatAreNotLiterals() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.apache.logging.log4j.Logger;
+
+              class Test {
+                  private static final String FMT = "%d items";
+
+                  void test(Logger formatterLogger, String format, int count) {
+                      formatterLogger.info(FMT, count);
+                      formatterLogger.info(format, count);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -200,4 +200,51 @@ class RemoveUnnecessaryLogLevelGuardsTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void agreesWithWrapExpensiveLogStatementsInConditionals() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipes(
+              new MatchIsLogLevelEnabledWithLogStatements(),
+              new WrapExpensiveLogStatementsInConditionals(false),
+              new RemoveUnnecessaryLogLevelGuards())
+            .cycles(2)
+            .expectedCyclesThatMakeChanges(1),
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void test(Logger logger, Exception e) {
+                      if (logger.isDebugEnabled()) {
+                          logger.debug("Cause: {}", e.getCause().getMessage());
+                      }
+                      logger.info("Result: {}", compute());
+                  }
+
+                  String compute() {
+                      return "result";
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void test(Logger logger, Exception e) {
+                      logger.debug("Cause: {}", e.getCause().getMessage());
+                      if (logger.isInfoEnabled()) {
+                          logger.info("Result: {}", compute());
+                      }
+                  }
+
+                  String compute() {
+                      return "result";
+                  }
+              }
+              """
+          )
+        );
+    }
 }
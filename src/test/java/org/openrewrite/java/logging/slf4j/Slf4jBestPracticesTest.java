@@ -120,4 +120,102 @@ class Slf4jBestPracticesTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void removedGuardsAreNotAddedBack() {
+        //language=java
+        rewriteRun(
+          spec -> spec.cycles(2).expectedCyclesThatMakeChanges(1),
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void test(Logger logger, Exception e) {
+                      if (logger.isDebugEnabled()) {
+                          logger.debug("Cause: {}", e.getCause().getMessage());
+                      }
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void test(Logger logger, Exception e) {
+                      logger.debug("Cause: {}", e.getCause().getMessage());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepGuardsAroundNonTrivialGetters() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Repository {
+                  private final List<String> orders = new ArrayList<>();
+
+                  String getOrders() {
+                      StringBuilder sb = new StringBuilder();
+                      for (String order : orders) {
+                          sb.append(order).append(',');
+                      }
+                      return sb.toString();
+                  }
+              }
+              """
+          ),
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void test(Logger logger, Repository repository) {
+                      if (logger.isDebugEnabled()) {
+                          logger.debug("Orders: {}", repository.getOrders());
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void foldMessagesAssembledBeforeLogging() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void test(Logger logger, String user, int id) {
+                      StringBuilder sb = new StringBuilder();
+                      sb.append("user=").append(user);
+                      sb.append(", id=").append(id);
+                      logger.warn(sb.toString());
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class Test {
+                  void test(Logger logger, String user, int id) {
+                      logger.warn("user={}, id={}", user, id);
+                  }
+              }
+              """
+          )
+        );
+    }
 }
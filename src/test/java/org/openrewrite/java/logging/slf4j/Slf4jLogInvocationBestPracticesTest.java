@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.logging.slf4j;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.logging.ArgumentArrayToVarargs;
+import org.openrewrite.java.logging.CatchBlockLogLevel;
+import org.openrewrite.java.logging.ParameterizedLogging;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class Slf4jLogInvocationBestPracticesTest implements RewriteTest {
+
+    //language=java
+    private static final String BEFORE = """
+      import org.slf4j.Logger;
+      import org.slf4j.LoggerFactory;
+
+      import java.text.MessageFormat;
+
+      class Test {
+          Logger logger = LoggerFactory.getLogger(Test.class);
+
+          void test(String name, int count) {
+              logger.info("Hello " + name + ", you have " + count + " messages");
+              logger.debug(String.format("Hello %s", name));
+              logger.debug("Values {} {}", new Object[]{name, count});
+              logger.warn(MessageFormat.format("Hello {0}", name));
+              try {
+                  throw new IllegalStateException();
+              } catch (IllegalStateException e) {
+                  logger.info("Failed for " + name);
+                  logger.error(e.getMessage());
+              }
+          }
+      }
+      """;
+
+    //language=java
+    private static final String AFTER = """
+      import org.slf4j.Logger;
+      import org.slf4j.LoggerFactory;
+
+      class Test {
+          Logger logger = LoggerFactory.getLogger(Test.class);
+
+          void test(String name, int count) {
+              logger.info("Hello {}, you have {} messages", name, count);
+              logger.debug("Hello {}", name);
+              logger.debug("Values {} {}", name, count);
+              logger.warn("Hello {}", name);
+              try {
+                  throw new IllegalStateException();
+              } catch (IllegalStateException e) {
+                  logger.warn("Failed for {}", name);
+                  logger.error("", e);
+              }
+          }
+      }
+      """;
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new Slf4jLogInvocationBestPractices())
+          .parser(JavaParser.fromJavaVersion()
+            .classpathFromResources(new InMemoryExecutionContext(), "slf4j-api-2"));
+    }
+
+    @DocumentExample
+    @Test
+    void applyInOnePass() {
+        rewriteRun(
+          java(BEFORE, AFTER)
+        );
+    }
+
+    @Test
+    void sameAsRecipesAppliedInSequence() {
+        rewriteRun(
+          spec -> spec.recipes(
+            new ArgumentArrayToVarargs(),
+            new Slf4jLogShouldBeConstant(),
+            new StringFormatToParameterizedLogging(),
+            new MessageFormatToParameterizedLogging(),
+            new ParameterizedLogging("org.slf4j.Logger trace(..)", false),
+            new ParameterizedLogging("org.slf4j.Logger debug(..)", false),
+            new ParameterizedLogging("org.slf4j.Logger info(..)", false),
+            new ParameterizedLogging("org.slf4j.Logger warn(..)", false),
+            new ParameterizedLogging("org.slf4j.Logger error(..)", false),
+            new CompleteExceptionLogging(),
+            new CatchBlockLogLevel()
+          ),
+          java(BEFORE, AFTER)
+        );
+    }
+
+    @Test
+    void leaveOtherInvocationsAlone() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  void test(String name) {
+                      System.out.println(String.format("Hello %s", name));
+                      System.out.println("Hello " + name);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -416,4 +416,22 @@ class Slf4jLogShouldBeConstantTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void noChangeWithLineSeparatorOrPercent() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import org.slf4j.Logger;
+              class A {
+                  Logger log;
+                  void method() {
+                      log.info(String.format("%s is 100%%%n", "test"));
+                  }
+              }
+              """
+          )
+        );
+    }
 }
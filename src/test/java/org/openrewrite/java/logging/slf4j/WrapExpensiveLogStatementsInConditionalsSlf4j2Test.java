@@ -259,4 +259,82 @@ class WrapExpensiveLogStatementsInConditionalsSlf4j2Test implements RewriteTest
           )
         );
     }
+
+    @Test
+    void forceIfStatementsOnFluentCapableLogger() {
+        rewriteRun(
+          spec -> spec.recipe(new WrapExpensiveLogStatementsInConditionals(false)),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class A {
+                  void method(Logger logger) {
+                      logger.debug("Result: {}", calculateResult());
+                  }
+
+                  String calculateResult() {
+                      return "result";
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class A {
+                  void method(Logger logger) {
+                      if (logger.isDebugEnabled()) {
+                          logger.debug("Result: {}", calculateResult());
+                      }
+                  }
+
+                  String calculateResult() {
+                      return "result";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void guardBoxedLoopCountersThatLambdasCannotCapture() {
+        rewriteRun(
+          spec -> spec.recipe(new WrapExpensiveLogStatementsInConditionals(true, null, null, true)),
+          //language=java
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class A {
+                  void method(Logger logger, int[] values) {
+                      for (int value : values) {
+                          logger.debug("Value: {}", value);
+                      }
+                      for (int i = 0; i < values.length; i++) {
+                          logger.debug("Index: {}", i);
+                      }
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class A {
+                  void method(Logger logger, int[] values) {
+                      for (int value : values) {
+                          logger.atDebug().addArgument(() -> value).log("Value: {}");
+                      }
+                      for (int i = 0; i < values.length; i++) {
+                          if (logger.isDebugEnabled()) {
+                              logger.debug("Index: {}", i);
+                          }
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
 }
@@ -25,6 +25,8 @@ import org.openrewrite.java.JavaParser;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.util.List;
+
 import static org.openrewrite.java.Assertions.java;
 
 class WrapExpensiveLogStatementsInConditionalsTest implements RewriteTest {
@@ -714,4 +716,133 @@ class WrapExpensiveLogStatementsInConditionalsTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void wrapGettersThatDoMoreThanReturnAField() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              class User {
+                  private String name;
+
+                  String getName() {
+                      return name;
+                  }
+
+                  String getReport() {
+                      return name.toUpperCase() + "!";
+                  }
+              }
+              """
+          ),
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class A {
+                  void method(Logger log, User user) {
+                      log.info("Name: {}", user.getName());
+                      log.debug("Report: {}", user.getReport());
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class A {
+                  void method(Logger log, User user) {
+                      log.info("Name: {}", user.getName());
+                      if (log.isDebugEnabled()) {
+                          log.debug("Report: {}", user.getReport());
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void wrapBoxingInLoops() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new WrapExpensiveLogStatementsInConditionals(null, null, null, true)),
+          java(
+            """
+              import org.slf4j.Logger;
+
+              class A {
+                  void method(Logger log, int[] values, int count) {
+                      for (int value : values) {
+                          log.debug("Value: {}", value);
+                      }
+                      log.debug("Count: {}", count);
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              class A {
+                  void method(Logger log, int[] values, int count) {
+                      for (int value : values) {
+                          if (log.isDebugEnabled()) {
+                              log.debug("Value: {}", value);
+                          }
+                      }
+                      log.debug("Count: {}", count);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void onlyWrapArgumentsReachingCostThreshold() {
+        //language=java
+        rewriteRun(
+          spec -> spec.recipe(new WrapExpensiveLogStatementsInConditionals(null,
+            List.of("java.util.Arrays toString(..)=10", "java.lang.String valueOf(..)=0"), 5, null)),
+          java(
+            """
+              import org.slf4j.Logger;
+
+              import java.util.Arrays;
+
+              class A {
+                  void method(Logger log, int[] values, int count) {
+                      log.debug("Values: {}", Arrays.toString(values));
+                      log.info("Count: {}", String.valueOf(count));
+                      log.info("Name: {}", name());
+                  }
+
+                  String name() {
+                      return "name";
+                  }
+              }
+              """,
+            """
+              import org.slf4j.Logger;
+
+              import java.util.Arrays;
+
+              class A {
+                  void method(Logger log, int[] values, int count) {
+                      if (log.isDebugEnabled()) {
+                          log.debug("Values: {}", Arrays.toString(values));
+                      }
+                      log.info("Count: {}", String.valueOf(count));
+                      log.info("Name: {}", name());
+                  }
+
+                  String name() {
+                      return "name";
+                  }
+              }
+              """
+          )
+        );
+    }
 }